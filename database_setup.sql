@@ -12,6 +12,7 @@ CREATE TABLE IF NOT EXISTS users (
     email VARCHAR(100) UNIQUE NOT NULL,
     password VARCHAR(255) NOT NULL,
     role ENUM('STUDENT', 'TEACHER', 'ADMIN') NOT NULL DEFAULT 'STUDENT',
+    token_version INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
@@ -65,19 +66,72 @@ CREATE TABLE IF NOT EXISTS results (
     submitted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     time_taken INT NOT NULL,
     status VARCHAR(20) DEFAULT 'COMPLETED',
+    submission_token VARCHAR(64) UNIQUE,
     FOREIGN KEY (exam_id) REFERENCES exams(id) ON DELETE CASCADE,
     FOREIGN KEY (student_id) REFERENCES users(id) ON DELETE CASCADE,
     UNIQUE KEY unique_exam_student (exam_id, student_id)
 );
 
+-- Create table recording queued submissions that could not be stored as results
+CREATE TABLE IF NOT EXISTS submission_rejections (
+    submission_token VARCHAR(64) PRIMARY KEY,
+    exam_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    reason VARCHAR(500),
+    received_at TIMESTAMP NOT NULL,
+    rejected_at TIMESTAMP NOT NULL
+);
+
+-- Create per-exam statistics table, maintained on every result insert and delete
+CREATE TABLE IF NOT EXISTS exam_stats (
+    exam_id BIGINT PRIMARY KEY,
+    result_count BIGINT NOT NULL DEFAULT 0,
+    score_sum BIGINT NOT NULL DEFAULT 0,
+    score_square_sum BIGINT NOT NULL DEFAULT 0,
+    pass_count BIGINT NOT NULL DEFAULT 0,
+    fail_count BIGINT NOT NULL DEFAULT 0,
+    bucket_0 BIGINT NOT NULL DEFAULT 0,
+    bucket_1 BIGINT NOT NULL DEFAULT 0,
+    bucket_2 BIGINT NOT NULL DEFAULT 0,
+    bucket_3 BIGINT NOT NULL DEFAULT 0,
+    bucket_4 BIGINT NOT NULL DEFAULT 0,
+    bucket_5 BIGINT NOT NULL DEFAULT 0,
+    bucket_6 BIGINT NOT NULL DEFAULT 0,
+    bucket_7 BIGINT NOT NULL DEFAULT 0,
+    bucket_8 BIGINT NOT NULL DEFAULT 0,
+    bucket_9 BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (exam_id) REFERENCES exams(id) ON DELETE CASCADE
+);
+
+-- Backfill statistics for results recorded before exam_stats existed
+INSERT INTO exam_stats (exam_id, result_count, score_sum, score_square_sum, pass_count, fail_count,
+                        bucket_0, bucket_1, bucket_2, bucket_3, bucket_4, bucket_5, bucket_6, bucket_7, bucket_8, bucket_9)
+SELECT exam_id, COUNT(*), SUM(score), SUM(score * score),
+       SUM(score >= 60), SUM(score < 60),
+       SUM(LEAST(score DIV 10, 9) = 0), SUM(LEAST(score DIV 10, 9) = 1), SUM(LEAST(score DIV 10, 9) = 2),
+       SUM(LEAST(score DIV 10, 9) = 3), SUM(LEAST(score DIV 10, 9) = 4), SUM(LEAST(score DIV 10, 9) = 5),
+       SUM(LEAST(score DIV 10, 9) = 6), SUM(LEAST(score DIV 10, 9) = 7), SUM(LEAST(score DIV 10, 9) = 8),
+       SUM(LEAST(score DIV 10, 9) = 9)
+FROM results
+GROUP BY exam_id
+ON DUPLICATE KEY UPDATE exam_id = exam_id;
+
 -- Create indexes for better performance
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_role ON users(role);
+CREATE INDEX idx_users_role_name ON users(role, name, id);
 CREATE INDEX idx_exams_category ON exams(category_id);
 CREATE INDEX idx_exams_created_by ON exams(created_by);
 CREATE INDEX idx_results_exam ON results(exam_id);
 CREATE INDEX idx_results_student ON results(student_id);
 CREATE INDEX idx_results_submitted_at ON results(submitted_at);
+CREATE INDEX idx_results_student_submitted ON results(student_id, submitted_at, id);
+CREATE INDEX idx_results_exam_submitted ON results(exam_id, submitted_at, id);
+CREATE INDEX idx_exams_created_at ON exams(created_at, id);
+CREATE INDEX idx_exams_created_by_created_at ON exams(created_by, created_at, id);
+CREATE INDEX idx_users_created_at ON users(created_at, id);
 
 -- Insert sample categories
 INSERT INTO categories (name, description) VALUES
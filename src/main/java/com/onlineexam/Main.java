@@ -3,12 +3,18 @@ package com.onlineexam;
 import com.onlineexam.model.Result;
 import com.onlineexam.model.User;
 import com.onlineexam.util.DatabaseConnection;
+import com.onlineexam.util.FxTasks;
+import com.onlineexam.util.SceneManager;
+import com.onlineexam.util.SceneManager.View;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.TableView;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 
@@ -18,22 +24,19 @@ import java.io.IOException;
  */
 public class Main extends Application {
     
+    private static final Logger log = LoggerFactory.getLogger(Main.class);
+    
     private static Stage primaryStage;
     private static User currentUser;
     private static Result currentResult;
     
-    // Scene references
-    private static Scene loginScene;
-    private static Scene registerScene;
-    private static Scene studentDashboardScene;
-    private static Scene adminDashboardScene;
-    private static Scene examScene;
-    private static Scene resultScene;
-    private static Scene questionManagementScene;
+    private static SceneManager sceneManager;
     
     @Override
     public void start(Stage stage) throws IOException {
+        long startupStart = System.nanoTime();
         primaryStage = stage;
+        sceneManager = new SceneManager(stage);
         
         // Set application title and icon
         primaryStage.setTitle("Online Examination System");
@@ -51,8 +54,10 @@ public class Main extends Application {
             System.exit(1);
         }
         
-        // Load and show login scene
+        // Load and show login scene, then parse the views used after login in the background
         showLoginView();
+        sceneManager.preload(View.STUDENT_DASHBOARD, View.ADMIN_DASHBOARD, View.EXAM, View.RESULT,
+                View.REGISTER, View.QUESTION_MANAGEMENT);
         
         // Set window properties
         primaryStage.setResizable(true);
@@ -60,9 +65,12 @@ public class Main extends Application {
         primaryStage.setMinHeight(600);
         primaryStage.centerOnScreen();
         primaryStage.show();
+        log.info("Startup completed in {} ms", (System.nanoTime() - startupStart) / 1_000_000);
         
         // Handle window close event
         primaryStage.setOnCloseRequest(event -> {
+            FxTasks.shutdown();
+            sceneManager.shutdown();
             DatabaseConnection.closeDataSource();
         });
     }
@@ -71,117 +79,62 @@ public class Main extends Application {
      * Show login view
      */
     public static void showLoginView() {
-        try {
-            if (loginScene == null) {
-                FXMLLoader loader = new FXMLLoader(Main.class.getResource("/fxml/LoginView.fxml"));
-                loginScene = new Scene(loader.load(), 800, 600);
-            }
-            primaryStage.setScene(loginScene);
-            primaryStage.setTitle("Online Examination System - Login");
-        } catch (IOException e) {
-            showAlert("Error", "Failed to load login view: " + e.getMessage(), Alert.AlertType.ERROR);
-            e.printStackTrace();
-        }
+        showView(View.LOGIN, "Failed to load login view");
     }
     
     /**
      * Show registration view
      */
     public static void showRegisterView() {
-        try {
-            if (registerScene == null) {
-                FXMLLoader loader = new FXMLLoader(Main.class.getResource("/fxml/RegisterView.fxml"));
-                registerScene = new Scene(loader.load(), 800, 600);
-            }
-            primaryStage.setScene(registerScene);
-            primaryStage.setTitle("Online Examination System - Registration");
-        } catch (IOException e) {
-            showAlert("Error", "Failed to load registration view: " + e.getMessage(), Alert.AlertType.ERROR);
-            e.printStackTrace();
-        }
+        showView(View.REGISTER, "Failed to load registration view");
     }
     
     /**
      * Show student dashboard
      */
     public static void showStudentDashboard() {
-        try {
-            if (studentDashboardScene == null) {
-                FXMLLoader loader = new FXMLLoader(Main.class.getResource("/fxml/StudentDashboardView.fxml"));
-                studentDashboardScene = new Scene(loader.load(), 1000, 700);
-            }
-            primaryStage.setScene(studentDashboardScene);
-            primaryStage.setTitle("Online Examination System - Student Dashboard");
-        } catch (IOException e) {
-            showAlert("Error", "Failed to load student dashboard: " + e.getMessage(), Alert.AlertType.ERROR);
-            e.printStackTrace();
-        }
+        showView(View.STUDENT_DASHBOARD, "Failed to load student dashboard");
     }
     
     /**
      * Show admin dashboard
      */
     public static void showAdminDashboard() {
-        try {
-            if (adminDashboardScene == null) {
-                FXMLLoader loader = new FXMLLoader(Main.class.getResource("/fxml/AdminDashboardView.fxml"));
-                adminDashboardScene = new Scene(loader.load(), 1000, 700);
-            }
-            primaryStage.setScene(adminDashboardScene);
-            primaryStage.setTitle("Online Examination System - Admin Dashboard");
-        } catch (IOException e) {
-            showAlert("Error", "Failed to load admin dashboard: " + e.getMessage(), Alert.AlertType.ERROR);
-            e.printStackTrace();
-        }
+        showView(View.ADMIN_DASHBOARD, "Failed to load admin dashboard");
     }
     
     /**
      * Show exam view
      */
     public static void showExamView() {
-        try {
-            if (examScene == null) {
-                FXMLLoader loader = new FXMLLoader(Main.class.getResource("/fxml/ExamView.fxml"));
-                examScene = new Scene(loader.load(), 1000, 700);
-            }
-            primaryStage.setScene(examScene);
-            primaryStage.setTitle("Online Examination System - Exam");
-        } catch (IOException e) {
-            showAlert("Error", "Failed to load exam view: " + e.getMessage(), Alert.AlertType.ERROR);
-            e.printStackTrace();
-        }
+        showView(View.EXAM, "Failed to load exam view");
     }
     
     /**
      * Show result view
      */
     public static void showResultView() {
-        try {
-            if (resultScene == null) {
-                FXMLLoader loader = new FXMLLoader(Main.class.getResource("/fxml/ResultView.fxml"));
-                resultScene = new Scene(loader.load(), 800, 600);
-            }
-            primaryStage.setScene(resultScene);
-            primaryStage.setTitle("Online Examination System - Results");
-        } catch (IOException e) {
-            showAlert("Error", "Failed to load result view: " + e.getMessage(), Alert.AlertType.ERROR);
-            e.printStackTrace();
-        }
+        showView(View.RESULT, "Failed to load result view");
     }
     
     /**
      * Show question management view
      */
     public static void showQuestionManagementView() {
+        showView(View.QUESTION_MANAGEMENT, "Failed to load question management view");
+    }
+    
+    /**
+     * Switch to a cached view, cancelling background work of the previous one
+     * @param view the view to show
+     * @param failureMessage message prefix shown if the view cannot be loaded
+     */
+    private static void showView(View view, String failureMessage) {
+        FxTasks.cancelAll();
         try {
-            if (questionManagementScene == null) {
-                FXMLLoader loader = new FXMLLoader(Main.class.getResource("/fxml/QuestionManagementView.fxml"));
-                questionManagementScene = new Scene(loader.load(), 1200, 800);
-            }
-            primaryStage.setScene(questionManagementScene);
-            primaryStage.setTitle("Online Examination System - Question Management");
+            sceneManager.show(view);
         } catch (IOException e) {
-            showAlert("Error", "Failed to load question management view: " + e.getMessage(), Alert.AlertType.ERROR);
+            showAlert("Error", failureMessage + ": " + e.getMessage(), Alert.AlertType.ERROR);
             e.printStackTrace();
         }
     }
@@ -200,6 +153,22 @@ public class Main extends Application {
         alert.showAndWait();
     }
     
+    /**
+     * Show a modal dialog containing a table
+     * @param title the dialog title
+     * @param table the table to show; its rows may still be loading
+     */
+    public static void showTableDialog(String title, TableView<?> table) {
+        Dialog<Void> dialog = new Dialog<>();
+        dialog.initOwner(primaryStage);
+        dialog.setTitle(title);
+        dialog.setResizable(true);
+        dialog.getDialogPane().setContent(table);
+        dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+        dialog.getDialogPane().setPrefSize(640, 480);
+        dialog.showAndWait();
+    }
+    
     /**
      * Get current user
      * @return the current user
@@ -0,0 +1,92 @@
+package com.onlineexam.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import com.onlineexam.util.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Virtual-thread execution mode for the REST tier, enabled with {@code exam.virtual-threads.enabled}.
+ * Tomcat runs each request on its own virtual thread and async MVC work (streamed result
+ * exports) uses virtual threads as well, so requests blocked on JDBC no longer hold a pooled
+ * platform thread. Concurrent database work is still bounded by the Hikari pool.
+ *
+ * The mode needs Java 21 at runtime; virtual threads are reached through {@link VirtualThreads}
+ * so the tier still compiles and runs on Java 17 with the mode disabled. The MySQL driver does
+ * its socket I/O inside synchronized blocks, so the carrier pool is sized above the connection
+ * pool: at most one pinned carrier per pooled connection, with one always left free.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "exam.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int PINNED_STACK_DEPTH = 8;
+    
+    @Value("${exam.virtual-threads.pinning-threshold-ms:20}")
+    private long pinningThresholdMs;
+    
+    public VirtualThreadConfig(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        if (!VirtualThreads.isSupported()) {
+            throw new IllegalStateException("exam.virtual-threads.enabled requires Java 21 or newer; running on "
+                    + Runtime.version());
+        }
+        VirtualThreads.reserveCarriers(connectionPoolSize);
+    }
+    
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newPerTaskExecutor());
+    }
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(VirtualThreads.newPerTaskExecutor()));
+    }
+    
+    /**
+     * Warn whenever a virtual thread stays pinned to its carrier longer than the threshold,
+     * typically while blocking inside a synchronized block or native frame. Pinned threads
+     * quietly shrink the carrier pool, so each occurrence is logged with the offending frames.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "exam.virtual-threads.pinning-monitor", havingValue = "true", matchIfMissing = true)
+    public RecordingStream virtualThreadPinningMonitor() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(pinningThresholdMs))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, VirtualThreadConfig::logPinnedThread);
+        stream.startAsync();
+        log.info("Virtual-thread mode enabled; reporting carrier pinning longer than {} ms", pinningThresholdMs);
+        return stream;
+    }
+    
+    private static void logPinnedThread(RecordedEvent event) {
+        String frames = event.getStackTrace() == null ? "unknown" : event.getStackTrace().getFrames().stream()
+                .limit(PINNED_STACK_DEPTH)
+                .map(VirtualThreadConfig::describe)
+                .collect(Collectors.joining("\n\tat "));
+        log.warn("Virtual thread {} pinned its carrier for {} ms\n\tat {}",
+                event.getThread() == null ? "unknown" : event.getThread().getJavaName(),
+                event.getDuration().toMillis(), frames);
+    }
+    
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -2,9 +2,18 @@ package com.onlineexam.controller;
 
 import com.onlineexam.dto.ApiResponse;
 import com.onlineexam.dto.CategoryDto;
+import com.onlineexam.dto.CursorPage;
+import com.onlineexam.dto.ResultDto;
 import com.onlineexam.dto.UserDto;
 import com.onlineexam.entity.User;
+import com.onlineexam.security.CurrentUserContext;
+import com.onlineexam.security.JwtUtils;
+import com.onlineexam.service.AnswerKeyCache;
 import com.onlineexam.service.CategoryService;
+import com.onlineexam.service.ExamCatalogCache;
+import com.onlineexam.service.ExamPaperCache;
+import com.onlineexam.service.PrincipalCache;
+import com.onlineexam.service.ResultService;
 import com.onlineexam.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +25,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/admin")
 @RequiredArgsConstructor
@@ -25,6 +37,12 @@ public class AdminController {
     
     private final UserService userService;
     private final CategoryService categoryService;
+    private final ResultService resultService;
+    private final ExamCatalogCache examCatalogCache;
+    private final ExamPaperCache examPaperCache;
+    private final AnswerKeyCache answerKeyCache;
+    private final PrincipalCache principalCache;
+    private final JwtUtils jwtUtils;
     
     // User Management
     @GetMapping("/users")
@@ -39,6 +57,19 @@ public class AdminController {
         }
     }
     
+    @GetMapping("/users/cursor")
+    @Operation(summary = "Get users by cursor", description = "Retrieve users newest first using an opaque continuation cursor")
+    public ResponseEntity<ApiResponse<CursorPage<UserDto>>> getUsersByCursor(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<UserDto> page = userService.getAllUsers(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get users: " + e.getMessage()));
+        }
+    }
+    
     @PutMapping("/users/{userId}/role")
     @Operation(summary = "Update user role", description = "Update a user's role")
     public ResponseEntity<ApiResponse<UserDto>> updateUserRole(@PathVariable Long userId, 
@@ -64,6 +95,20 @@ public class AdminController {
         }
     }
     
+    // Result Management
+    @GetMapping("/results/cursor")
+    @Operation(summary = "Get results by cursor", description = "Retrieve all results newest first using an opaque continuation cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ResultDto>>> getResultsByCursor(@RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<ResultDto> page = resultService.getAllResults(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get results: " + e.getMessage()));
+        }
+    }
+    
     // Category Management
     @PostMapping("/categories")
     @Operation(summary = "Create category", description = "Create a new category")
@@ -101,6 +146,18 @@ public class AdminController {
                     .body(ApiResponse.error("Failed to delete category: " + e.getMessage()));
         }
     }
+    
+    // Diagnostics
+    @GetMapping("/caches")
+    @Operation(summary = "Get cache statistics", description = "Size and hit rate of the in-process caches")
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getCacheStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put("examCatalog", examCatalogCache.stats());
+        stats.put("answerKeys", answerKeyCache.stats());
+        stats.put("examPapers", examPaperCache.stats());
+        stats.put("principals", principalCache.stats());
+        stats.put("verifiedTokens", jwtUtils.validationCacheStats());
+        stats.put("currentUser", CurrentUserContext.stats());
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
 }
-
-
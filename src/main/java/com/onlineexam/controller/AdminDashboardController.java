@@ -1,23 +1,28 @@
 package com.onlineexam.controller;
 
 import com.onlineexam.Main;
-import com.onlineexam.dao.QuestionDAO;
-import com.onlineexam.dao.ResultDAO;
+import com.onlineexam.dao.DashboardDAO;
 import com.onlineexam.dao.UserDAO;
+import com.onlineexam.model.DashboardSummary;
 import com.onlineexam.model.User;
+import com.onlineexam.util.FxTasks;
+import com.onlineexam.util.PagedTableLoader;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
 
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.function.Function;
 
 /**
  * Controller for the Admin Dashboard view
  * Handles admin dashboard functionality and displays system statistics
  */
-public class AdminDashboardController implements Initializable {
+public class AdminDashboardController implements Initializable, ViewLifecycle {
     
     @FXML private Label welcomeLabel;
     @FXML private Button logoutButton;
@@ -29,16 +34,23 @@ public class AdminDashboardController implements Initializable {
     @FXML private Label totalExamsLabel;
     @FXML private Label averageScoreLabel;
     
-    private QuestionDAO questionDAO;
-    private ResultDAO resultDAO;
+    private static final int STUDENTS_PAGE_SIZE = 50;
+    
+    private DashboardDAO dashboardDAO;
     private UserDAO userDAO;
     private User currentUser;
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        questionDAO = new QuestionDAO();
-        resultDAO = new ResultDAO();
+        dashboardDAO = new DashboardDAO();
         userDAO = new UserDAO();
+    }
+    
+    /**
+     * Reset the view for a new visit
+     */
+    @Override
+    public void onShow() {
         currentUser = Main.getCurrentUser();
         
         loadUserData();
@@ -58,27 +70,19 @@ public class AdminDashboardController implements Initializable {
      * Load and display system statistics
      */
     private void loadStatistics() {
-        try {
-            // Load statistics
-            int totalQuestions = questionDAO.getTotalQuestionsCount();
-            int totalStudents = userDAO.getAllStudents().size();
-            
-            double[] resultStats = resultDAO.getResultStatistics();
-            int totalExams = (int) resultStats[0];
-            double averageScore = resultStats[3];
-            
-            // Update labels
-            totalQuestionsLabel.setText(String.valueOf(totalQuestions));
-            totalStudentsLabel.setText(String.valueOf(totalStudents));
-            totalExamsLabel.setText(String.valueOf(totalExams));
-            
-            if (totalExams > 0) {
-                averageScoreLabel.setText(String.format("%.1f%%", averageScore));
-            } else {
-                averageScoreLabel.setText("N/A");
+        totalQuestionsLabel.setText("...");
+        totalStudentsLabel.setText("...");
+        totalExamsLabel.setText("...");
+        averageScoreLabel.setText("...");
+        
+        // Query on a background thread so the dashboard renders immediately
+        FxTasks.run(() -> {
+            DashboardSummary summary = dashboardDAO.getSummary();
+            if (summary == null) {
+                throw new IllegalStateException("Dashboard summary unavailable");
             }
-            
-        } catch (Exception e) {
+            return summary;
+        }, this::showStatistics, e -> {
             System.err.println("Error loading statistics: " + e.getMessage());
             e.printStackTrace();
             
@@ -87,6 +91,23 @@ public class AdminDashboardController implements Initializable {
             totalStudentsLabel.setText("0");
             totalExamsLabel.setText("0");
             averageScoreLabel.setText("N/A");
+        });
+    }
+    
+    /**
+     * Display loaded statistics
+     * @param summary dashboard counters
+     */
+    private void showStatistics(DashboardSummary summary) {
+        // Update labels
+        totalQuestionsLabel.setText(String.valueOf(summary.getTotalQuestions()));
+        totalStudentsLabel.setText(String.valueOf(summary.getTotalStudents()));
+        totalExamsLabel.setText(String.valueOf(summary.getTotalResults()));
+        
+        if (summary.getTotalResults() > 0) {
+            averageScoreLabel.setText(String.format("%.1f%%", summary.getAverageScore()));
+        } else {
+            averageScoreLabel.setText("N/A");
         }
     }
     
@@ -106,11 +127,14 @@ public class AdminDashboardController implements Initializable {
         // For now, show a simple dialog with all results
         // In a more advanced version, this could open a dedicated results management view
         try {
-            double[] stats = resultDAO.getResultStatistics();
-            int totalExams = (int) stats[0];
-            int passedExams = (int) stats[1];
-            int failedExams = (int) stats[2];
-            double averageScore = stats[3];
+            DashboardSummary summary = dashboardDAO.getSummary();
+            if (summary == null) {
+                throw new IllegalStateException("Dashboard summary unavailable");
+            }
+            long totalExams = summary.getTotalResults();
+            long passedExams = summary.getPassedResults();
+            long failedExams = summary.getFailedResults();
+            double averageScore = summary.getAverageScore();
             
             StringBuilder resultText = new StringBuilder("System Statistics:\n\n");
             resultText.append("Total Exams Taken: ").append(totalExams).append("\n");
@@ -119,8 +143,7 @@ public class AdminDashboardController implements Initializable {
             resultText.append("Average Score: ").append(String.format("%.1f%%", averageScore)).append("\n");
             
             if (totalExams > 0) {
-                double passRate = (double) passedExams / totalExams * 100;
-                resultText.append("Pass Rate: ").append(String.format("%.1f%%", passRate)).append("\n");
+                resultText.append("Pass Rate: ").append(String.format("%.1f%%", summary.getPassRate())).append("\n");
             }
             
             Main.showAlert("System Statistics", resultText.toString(), 
@@ -135,35 +158,42 @@ public class AdminDashboardController implements Initializable {
     
     /**
      * Handle manage users button click
+     * Shows registered students in a table that loads further pages as the user scrolls
      */
     @FXML
     private void handleManageUsers() {
-        // For now, show a simple dialog with user information
-        // In a more advanced version, this could open a dedicated user management view
-        try {
-            var students = userDAO.getAllStudents();
-            
-            if (students.isEmpty()) {
-                Main.showAlert("No Students", "No students are registered in the system.", 
-                             javafx.scene.control.Alert.AlertType.INFORMATION);
-            } else {
-                StringBuilder userText = new StringBuilder("Registered Students:\n\n");
-                
-                for (User student : students) {
-                    userText.append("Name: ").append(student.getFullName()).append("\n");
-                    userText.append("Username: ").append(student.getUsername()).append("\n");
-                    userText.append("Email: ").append(student.getEmail()).append("\n\n");
-                }
-                
-                Main.showAlert("Student List", userText.toString(), 
-                             javafx.scene.control.Alert.AlertType.INFORMATION);
-            }
-            
-        } catch (Exception e) {
-            Main.showAlert("Error", "Failed to load user information: " + e.getMessage(), 
-                         javafx.scene.control.Alert.AlertType.ERROR);
-            e.printStackTrace();
-        }
+        TableView<User> table = new TableView<>();
+        table.setPlaceholder(new Label("No students are registered in the system."));
+        table.getColumns().add(textColumn("Name", User::getFullName));
+        table.getColumns().add(textColumn("Username", User::getUsername));
+        table.getColumns().add(textColumn("Email", User::getEmail));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        
+        PagedTableLoader<User> loader = new PagedTableLoader<>(table, STUDENTS_PAGE_SIZE,
+                (last, limit) -> last == null
+                        ? userDAO.getStudents(null, 0, limit)
+                        : userDAO.getStudents(last.getUsername(), last.getId(), limit),
+                e -> {
+                    Main.showAlert("Error", "Failed to load user information: " + e.getMessage(), 
+                                 javafx.scene.control.Alert.AlertType.ERROR);
+                    e.printStackTrace();
+                });
+        loader.reload();
+        
+        Main.showTableDialog("Student List", table);
+    }
+    
+    /**
+     * Create a read-only text column
+     * @param title the column header
+     * @param value extracts the cell text from a user
+     * @return the column
+     */
+    private static TableColumn<User, String> textColumn(String title, Function<User, String> value) {
+        TableColumn<User, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(cellData ->
+            new javafx.beans.property.SimpleStringProperty(value.apply(cellData.getValue())));
+        return column;
     }
     
     /**
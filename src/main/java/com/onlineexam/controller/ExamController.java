@@ -6,6 +6,8 @@ import com.onlineexam.dao.ResultDAO;
 import com.onlineexam.model.Question;
 import com.onlineexam.model.Result;
 import com.onlineexam.model.User;
+import com.onlineexam.util.DatabaseConnection;
+import com.onlineexam.util.ExamPermutation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.fxml.FXML;
@@ -21,7 +23,7 @@ import java.util.*;
  * Controller for the Exam view
  * Handles exam functionality including timer, navigation, and submission
  */
-public class ExamController implements Initializable {
+public class ExamController implements Initializable, ViewLifecycle {
     
     @FXML private Label timerLabel;
     @FXML private Label questionCounterLabel;
@@ -44,6 +46,8 @@ public class ExamController implements Initializable {
     private List<Question> questions;
     private Map<Integer, String> userAnswers;
     private int currentQuestionIndex;
+    private ExamPermutation permutation;
+    private int examId;
     private int examDurationMinutes = 30; // 30 minutes exam
     private int timeRemainingSeconds;
     private Timeline timer;
@@ -53,42 +57,68 @@ public class ExamController implements Initializable {
     public void initialize(URL location, ResourceBundle resources) {
         questionDAO = new QuestionDAO();
         resultDAO = new ResultDAO();
+    }
+    
+    /**
+     * Start a fresh exam attempt each time the view is shown
+     */
+    @Override
+    public void onShow() {
         currentUser = Main.getCurrentUser();
         
         userAnswers = new HashMap<>();
         examStartTime = LocalDateTime.now();
         
-        setupExam();
-        startTimer();
+        if (setupExam()) {
+            startTimer();
+        }
+    }
+    
+    /**
+     * Stop the timer so it cannot auto-submit from a hidden view
+     */
+    @Override
+    public void onHide() {
+        if (timer != null) {
+            timer.stop();
+        }
     }
     
     /**
      * Setup the exam by loading questions
+     * @return true if questions were loaded
      */
-    private void setupExam() {
+    private boolean setupExam() {
         try {
-            // Load 10 random questions for the exam
-            questions = questionDAO.getRandomQuestions(10);
+            // Draw 10 questions from the question bank and an option order that are reproducible
+            // for this student and the configured exam and seed
+            examId = Integer.parseInt(DatabaseConnection.getProperty("exam.id", "1"));
+            long shuffleSeed = Long.parseLong(DatabaseConnection.getProperty("exam.shuffle.seed", "0"));
+            permutation = ExamPermutation.of(examId, currentUser.getId(), shuffleSeed);
+            questions = questionDAO.getRandomQuestions(10, permutation::drawRandom);
             
             if (questions.isEmpty()) {
                 Main.showAlert("No Questions", "No questions available for the exam. Please contact administrator.", 
                              Alert.AlertType.ERROR);
                 Main.showStudentDashboard();
-                return;
+                return false;
             }
             
             currentQuestionIndex = 0;
             timeRemainingSeconds = examDurationMinutes * 60;
+            timerLabel.setText(String.format("%02d:%02d", examDurationMinutes, 0));
             
             updateQuestionDisplay();
             updateNavigationButtons();
             updateProgress();
+            return true;
             
         } catch (Exception e) {
             Main.showAlert("Error", "Failed to load exam questions: " + e.getMessage(), 
                          Alert.AlertType.ERROR);
             e.printStackTrace();
             Main.showStudentDashboard();
+            return false;
         }
     }
     
@@ -96,6 +126,9 @@ public class ExamController implements Initializable {
      * Start the exam timer
      */
     private void startTimer() {
+        if (timer != null) {
+            timer.stop();
+        }
         timer = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateTimer()));
         timer.setCycleCount(Timeline.INDEFINITE);
         timer.play();
@@ -130,23 +163,24 @@ public class ExamController implements Initializable {
         if (currentQuestionIndex >= 0 && currentQuestionIndex < questions.size()) {
             Question question = questions.get(currentQuestionIndex);
             
+            String[] options = {question.getOptionA(), question.getOptionB(), question.getOptionC(), question.getOptionD()};
+            int[] optionOrder = permutation.optionOrder(question.getId(), options.length);
+            RadioButton[] optionButtons = {optionA, optionB, optionC, optionD};
+            
             questionText.setText(question.getQuestionText());
-            optionA.setText("A. " + question.getOptionA());
-            optionB.setText("B. " + question.getOptionB());
-            optionC.setText("C. " + question.getOptionC());
-            optionD.setText("D. " + question.getOptionD());
+            for (int shown = 0; shown < optionButtons.length; shown++) {
+                optionButtons[shown].setText((char) ('A' + shown) + ". " + options[optionOrder[shown]]);
+            }
             
             // Clear selection
             answerGroup.selectToggle(null);
             
-            // Restore previous answer if exists
+            // Restore previous answer if exists; answers are stored as original option letters
             String previousAnswer = userAnswers.get(question.getId());
             if (previousAnswer != null) {
-                switch (previousAnswer) {
-                    case "A": optionA.setSelected(true); break;
-                    case "B": optionB.setSelected(true); break;
-                    case "C": optionC.setSelected(true); break;
-                    case "D": optionD.setSelected(true); break;
+                int shown = permutation.shownOption(question.getId(), options.length, previousAnswer.charAt(0) - 'A');
+                if (shown >= 0) {
+                    optionButtons[shown].setSelected(true);
                 }
             }
             
@@ -226,8 +260,10 @@ public class ExamController implements Initializable {
             RadioButton selectedOption = (RadioButton) answerGroup.getSelectedToggle();
             
             if (selectedOption != null) {
-                String answer = selectedOption.getText().substring(0, 1); // Get A, B, C, or D
-                userAnswers.put(question.getId(), answer);
+                // Map the displayed letter back to the stored option letter used for grading
+                int shown = selectedOption.getText().charAt(0) - 'A';
+                int original = permutation.originalOption(question.getId(), 4, shown);
+                userAnswers.put(question.getId(), String.valueOf((char) ('A' + original)));
             }
         }
     }
@@ -267,7 +303,7 @@ public class ExamController implements Initializable {
             
             // Create result
             Result result = new Result(
-                1, // examId - hardcoded for now, should be dynamic
+                examId,
                 currentUser.getId(),
                 currentUser.getUsername(),
                 totalQuestions,
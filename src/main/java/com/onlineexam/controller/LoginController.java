@@ -19,7 +19,7 @@ import java.util.ResourceBundle;
  * Controller for the Login view
  * Handles user authentication and navigation to appropriate dashboard
  */
-public class LoginController implements Initializable {
+public class LoginController implements Initializable, ViewLifecycle {
     
     @FXML private TextField usernameField;
     @FXML private PasswordField passwordField;
@@ -45,6 +45,16 @@ public class LoginController implements Initializable {
         passwordField.textProperty().addListener((obs, oldText, newText) -> clearStatus());
     }
     
+    /**
+     * Reset the view for a new visit
+     */
+    @Override
+    public void onShow() {
+        // Never leave a password behind after logout
+        passwordField.clear();
+        clearStatus();
+    }
+    
     /**
      * Handle login button click
      */
@@ -3,6 +3,7 @@ package com.onlineexam.controller;
 import com.onlineexam.Main;
 import com.onlineexam.dao.QuestionDAO;
 import com.onlineexam.model.Question;
+import com.onlineexam.util.FxTasks;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -11,6 +12,7 @@ import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 
@@ -18,7 +20,7 @@ import java.util.ResourceBundle;
  * Controller for the Question Management view
  * Handles CRUD operations for exam questions
  */
-public class QuestionManagementController implements Initializable {
+public class QuestionManagementController implements Initializable, ViewLifecycle {
     
     @FXML private TableView<Question> questionsTable;
     @FXML private TableColumn<Question, Integer> idColumn;
@@ -55,10 +57,17 @@ public class QuestionManagementController implements Initializable {
         
         setupTable();
         setupComboBoxes();
-        loadQuestions();
         setupTableSelection();
     }
     
+    /**
+     * Reset the view for a new visit
+     */
+    @Override
+    public void onShow() {
+        loadQuestions();
+    }
+    
     /**
      * Setup the questions table
      */
@@ -103,6 +112,7 @@ public class QuestionManagementController implements Initializable {
         });
         
         questionsTable.setItems(questionsList);
+        questionsTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
     }
     
     /**
@@ -134,14 +144,10 @@ public class QuestionManagementController implements Initializable {
      * Load all questions from database
      */
     private void loadQuestions() {
-        try {
-            List<Question> questions = questionDAO.getAllQuestions();
-            questionsList.clear();
-            questionsList.addAll(questions);
-        } catch (Exception e) {
+        FxTasks.run(questionDAO::getAllQuestions, questions -> questionsList.setAll(questions), e -> {
             showStatus("Error loading questions: " + e.getMessage(), false);
             e.printStackTrace();
-        }
+        });
     }
     
     /**
@@ -217,6 +223,12 @@ public class QuestionManagementController implements Initializable {
      */
     @FXML
     private void handleDelete() {
+        List<Question> selectedQuestions = new ArrayList<>(questionsTable.getSelectionModel().getSelectedItems());
+        if (selectedQuestions.size() > 1) {
+            deleteQuestions(selectedQuestions);
+            return;
+        }
+        
         if (selectedQuestion != null) {
             Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
             confirmAlert.setTitle("Delete Question");
@@ -243,6 +255,38 @@ public class QuestionManagementController implements Initializable {
         }
     }
     
+    /**
+     * Delete all selected questions in a single batch
+     */
+    private void deleteQuestions(List<Question> questions) {
+        Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
+        confirmAlert.setTitle("Delete Questions");
+        confirmAlert.setHeaderText("Are you sure you want to delete " + questions.size() + " questions?");
+        confirmAlert.setContentText("This action cannot be undone.");
+        
+        java.util.Optional<ButtonType> result = confirmAlert.showAndWait();
+        if (result.isEmpty() || result.get() != ButtonType.OK) {
+            return;
+        }
+        
+        int[] questionIds = questions.stream().mapToInt(Question::getId).toArray();
+        deleteButton.setDisable(true);
+        FxTasks.run(() -> questionDAO.deleteQuestions(questionIds), deleted -> {
+            if (deleted >= 0) {
+                showStatus(deleted + " questions deleted successfully!", true);
+                loadQuestions();
+                clearFields();
+            } else {
+                deleteButton.setDisable(false);
+                showStatus("Failed to delete questions", false);
+            }
+        }, e -> {
+            deleteButton.setDisable(false);
+            showStatus("Error deleting questions: " + e.getMessage(), false);
+            e.printStackTrace();
+        });
+    }
+    
     /**
      * Handle clear button click
      */
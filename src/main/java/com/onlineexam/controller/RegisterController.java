@@ -18,7 +18,7 @@ import java.util.regex.Pattern;
  * Controller for the Registration view
  * Handles new student registration
  */
-public class RegisterController implements Initializable {
+public class RegisterController implements Initializable, ViewLifecycle {
     
     @FXML private TextField fullNameField;
     @FXML private TextField usernameField;
@@ -49,6 +49,15 @@ public class RegisterController implements Initializable {
         confirmPasswordField.textProperty().addListener((obs, oldText, newText) -> clearStatus());
     }
     
+    /**
+     * Reset the view for a new visit
+     */
+    @Override
+    public void onShow() {
+        clearFields();
+        clearStatus();
+    }
+    
     /**
      * Handle register button click
      */
@@ -3,19 +3,15 @@ package com.onlineexam.controller;
 import com.onlineexam.Main;
 import com.onlineexam.model.Result;
 import javafx.fxml.FXML;
-import javafx.fxml.Initializable;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 
-import java.net.URL;
-import java.util.ResourceBundle;
-
 /**
  * Controller for the Result view
  * Displays exam results and provides navigation options
  */
-public class ResultController implements Initializable {
+public class ResultController implements ViewLifecycle {
     
     @FXML private Label scoreText;
     @FXML private Label gradeText;
@@ -30,8 +26,11 @@ public class ResultController implements Initializable {
     
     private Result currentResult;
     
+    /**
+     * Reset the view for a new visit
+     */
     @Override
-    public void initialize(URL location, ResourceBundle resources) {
+    public void onShow() {
         currentResult = Main.getCurrentResult();
         
         if (currentResult != null) {
@@ -1,23 +1,36 @@
 package com.onlineexam.controller;
 
 import com.onlineexam.dto.ApiResponse;
+import com.onlineexam.dto.CursorPage;
 import com.onlineexam.dto.ExamDto;
+import com.onlineexam.dto.ExamQuestionDto;
 import com.onlineexam.dto.ExamSubmissionDto;
 import com.onlineexam.dto.ResultDto;
+import com.onlineexam.dto.SubmissionReceiptDto;
+import com.onlineexam.entity.SubmissionRejection;
+import com.onlineexam.service.ExamPaperCache;
+import com.onlineexam.service.ExamPaperService;
 import com.onlineexam.service.ExamService;
 import com.onlineexam.service.ExamSubmissionService;
 import com.onlineexam.service.ResultService;
+import com.onlineexam.service.SubmissionIngestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/students")
@@ -27,8 +40,11 @@ import java.util.List;
 public class StudentController {
     
     private final ExamService examService;
+    private final ExamPaperService examPaperService;
+    private final ExamPaperCache examPaperCache;
     private final ExamSubmissionService examSubmissionService;
     private final ResultService resultService;
+    private final SubmissionIngestionService submissionIngestionService;
     
     // Exam Access
     @GetMapping("/exams")
@@ -43,11 +59,24 @@ public class StudentController {
         }
     }
     
+    @GetMapping("/exams/cursor")
+    @Operation(summary = "Get available exams by cursor", description = "List exams newest first using an opaque continuation cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ExamDto>>> getAvailableExamsByCursor(@RequestParam(required = false) String cursor,
+                                                                                      @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<ExamDto> page = examService.getAllExams(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get exams: " + e.getMessage()));
+        }
+    }
+    
     @GetMapping("/exams/{examId}")
     @Operation(summary = "Get exam details", description = "Get details of a specific exam")
     public ResponseEntity<ApiResponse<ExamDto>> getExamDetails(@PathVariable Long examId) {
         try {
-            ExamDto exam = examService.getExamById(examId);
+            ExamDto exam = examService.getExamById(examId, true);
             return ResponseEntity.ok(ApiResponse.success(exam));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -56,14 +85,85 @@ public class StudentController {
     }
     
     // Taking Exams
+    @GetMapping("/exams/{examId}/questions")
+    @Operation(summary = "Get exam questions", description = "Get the exam's questions in this student's shuffled order")
+    public ResponseEntity<ApiResponse<List<ExamQuestionDto>>> getExamQuestions(@PathVariable Long examId) {
+        try {
+            List<ExamQuestionDto> questions = examPaperService.getShuffledQuestions(examId);
+            return ResponseEntity.ok(ApiResponse.success(questions));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get exam questions: " + e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/exams/{examId}/paper")
+    @Operation(summary = "Get exam paper", description = "Get the exam's questions without answers in canonical order, " +
+            "served from pre-encoded bytes with a strong ETag; submit answers with shuffled=false")
+    public ResponseEntity<?> getExamPaper(@PathVariable Long examId,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ExamPaperCache.ExamPaper paper;
+        try {
+            paper = examPaperCache.getPaper(examId);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            // Nothing about the request is wrong here; building or encoding the paper failed
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to get exam paper: " + e.getMessage()));
+        }
+        
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? paper.getGzipEtag() : paper.getEtag();
+        // Authenticated content: clients may keep it but must revalidate before reuse
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        
+        if (matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(paper.getGzip());
+        }
+        return response.body(paper.getJson());
+    }
+    
     @PostMapping("/exams/{examId}/submit")
     @Operation(summary = "Submit exam", description = "Submit answers for an exam")
     public ResponseEntity<ApiResponse<ResultDto>> submitExam(@PathVariable Long examId, 
                                                            @Valid @RequestBody ExamSubmissionDto submissionDto) {
         try {
             submissionDto.setExamId(examId);
-            ResultDto result = examSubmissionService.submitExam(submissionDto);
-            return ResponseEntity.ok(ApiResponse.success("Exam submitted successfully", result));
+            ExamSubmissionService.SubmissionOutcome outcome = examSubmissionService.submitExam(submissionDto);
+            String message = outcome.isAlreadySubmitted() ? "Exam already submitted" : "Exam submitted successfully";
+            return ResponseEntity.ok(ApiResponse.success(message, outcome.getResult()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to submit exam: " + e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/exams/{examId}/submit-async")
+    @Operation(summary = "Submit exam asynchronously", 
+               description = "Queue answers for grading and return a receipt; poll the results endpoints for the stored result")
+    public ResponseEntity<ApiResponse<SubmissionReceiptDto>> submitExamAsync(@PathVariable Long examId, 
+                                                                           @Valid @RequestBody ExamSubmissionDto submissionDto) {
+        try {
+            submissionDto.setExamId(examId);
+            SubmissionReceiptDto receipt = submissionIngestionService.enqueue(submissionDto);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Exam submission received", receipt));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Failed to submit exam: " + e.getMessage()));
@@ -95,6 +195,44 @@ public class StudentController {
         }
     }
     
+    @GetMapping("/results/cursor")
+    @Operation(summary = "Get student results by cursor", description = "Get results of the current student newest first using an opaque continuation cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ResultDto>>> getStudentResultsByCursor(@RequestParam(required = false) String cursor,
+                                                                                        @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<ResultDto> page = resultService.getResultsByStudent(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get results: " + e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/results/submission/{submissionToken}")
+    @Operation(summary = "Get result by submission token", description = "Poll for the result of a queued or retried submission; " +
+            "404 while it is still queued, 409 with the rejection status if it could not be stored")
+    public ResponseEntity<ApiResponse<?>> getResultBySubmissionToken(@PathVariable String submissionToken) {
+        try {
+            Optional<ResultDto> result = resultService.findResultBySubmissionToken(submissionToken);
+            if (result.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success(result.get()));
+            }
+            Optional<SubmissionRejection> rejection = resultService.findRejectedSubmission(submissionToken);
+            if (rejection.isPresent()) {
+                SubmissionRejection rejected = rejection.get();
+                SubmissionReceiptDto receipt = new SubmissionReceiptDto(rejected.getSubmissionToken(), rejected.getExamId(),
+                        rejected.getStudentId(), rejected.getStatus(), rejected.getReceivedAt());
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new ApiResponse<>(false, "Submission rejected: " + rejected.getReason(), receipt));
+            }
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("No result found for submission: " + submissionToken));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get result: " + e.getMessage()));
+        }
+    }
+    
     @GetMapping("/results/{resultId}")
     @Operation(summary = "Get specific result", description = "View details of a specific result")
     public ResponseEntity<ApiResponse<ResultDto>> getResultById(@PathVariable Long resultId) {
@@ -106,6 +244,35 @@ public class StudentController {
                     .body(ApiResponse.error("Failed to get result: " + e.getMessage()));
         }
     }
+    
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" explicitly refuses the encoding
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+    
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-None-Match uses weak comparison
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
-
-
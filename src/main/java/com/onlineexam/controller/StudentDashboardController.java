@@ -4,6 +4,8 @@ import com.onlineexam.Main;
 import com.onlineexam.dao.ResultDAO;
 import com.onlineexam.model.Result;
 import com.onlineexam.model.User;
+import com.onlineexam.util.FxTasks;
+import com.onlineexam.util.PagedTableLoader;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -16,14 +18,14 @@ import javafx.scene.control.cell.PropertyValueFactory;
 
 import java.net.URL;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.ResourceBundle;
+import java.util.function.Function;
 
 /**
  * Controller for the Student Dashboard view
  * Handles student dashboard functionality and navigation
  */
-public class StudentDashboardController implements Initializable {
+public class StudentDashboardController implements Initializable, ViewLifecycle {
     
     @FXML private Label welcomeLabel;
     @FXML private Button logoutButton;
@@ -35,15 +37,28 @@ public class StudentDashboardController implements Initializable {
     @FXML private TableColumn<Result, String> statusColumn;
     @FXML private TableColumn<Result, String> timeTakenColumn;
     
+    private static final int RECENT_RESULTS = 5;
+    private static final int RESULTS_PAGE_SIZE = 50;
+    
     private ResultDAO resultDAO;
     private User currentUser;
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         resultDAO = new ResultDAO();
-        currentUser = Main.getCurrentUser();
         
         setupTable();
+    }
+    
+    /**
+     * Reset the view for a new visit
+     */
+    @Override
+    public void onShow() {
+        currentUser = Main.getCurrentUser();
+        
+        // Drop rows from a previous visit, possibly by another user
+        resultsTable.getItems().clear();
         loadUserData();
         loadRecentResults();
     }
@@ -89,20 +104,15 @@ public class StudentDashboardController implements Initializable {
      */
     private void loadRecentResults() {
         if (currentUser != null) {
-            try {
-                List<Result> results = resultDAO.getResultsByUserId(currentUser.getId());
-                
-                // Show only the 5 most recent results
-                List<Result> recentResults = results.stream()
-                    .limit(5)
-                    .collect(java.util.stream.Collectors.toList());
-                
+            int userId = currentUser.getId();
+            // Fetch only the most recent results instead of the full history
+            FxTasks.run(() -> resultDAO.getResultsByUserId(userId, null, 0, RECENT_RESULTS), recentResults -> {
                 ObservableList<Result> observableResults = FXCollections.observableArrayList(recentResults);
                 resultsTable.setItems(observableResults);
-            } catch (Exception e) {
+            }, e -> {
                 System.err.println("Error loading recent results: " + e.getMessage());
                 e.printStackTrace();
-            }
+            });
         }
     }
     
@@ -116,38 +126,49 @@ public class StudentDashboardController implements Initializable {
     
     /**
      * Handle view results button click
+     * Shows every result in a table that loads further pages as the user scrolls
      */
     @FXML
     private void handleViewResults() {
-        // For now, we'll show a simple dialog with all results
-        // In a more advanced version, this could open a dedicated results view
-        if (currentUser != null) {
-            try {
-                List<Result> results = resultDAO.getResultsByUserId(currentUser.getId());
-                
-                if (results.isEmpty()) {
-                    Main.showAlert("No Results", "You haven't taken any exams yet.", 
-                                 javafx.scene.control.Alert.AlertType.INFORMATION);
-                } else {
-                    StringBuilder resultText = new StringBuilder("Your Exam Results:\n\n");
-                    
-                    for (Result result : results) {
-                        resultText.append("Date: ").append(result.getExamDateString()).append("\n");
-                        resultText.append("Score: ").append(result.getScorePercentage()).append("\n");
-                        resultText.append("Status: ").append(result.getStatus()).append("\n");
-                        resultText.append("Time Taken: ").append(result.getTimeTakenString()).append("\n");
-                        resultText.append("Grade: ").append(result.getGrade()).append("\n\n");
-                    }
-                    
-                    Main.showAlert("Exam Results", resultText.toString(), 
-                                 javafx.scene.control.Alert.AlertType.INFORMATION);
-                }
-            } catch (Exception e) {
-                Main.showAlert("Error", "Failed to load results: " + e.getMessage(), 
-                             javafx.scene.control.Alert.AlertType.ERROR);
-                e.printStackTrace();
-            }
+        if (currentUser == null) {
+            return;
         }
+        
+        TableView<Result> table = new TableView<>();
+        table.setPlaceholder(new Label("You haven't taken any exams yet."));
+        table.getColumns().add(textColumn("Date", Result::getExamDateString));
+        table.getColumns().add(textColumn("Score", Result::getScorePercentage));
+        table.getColumns().add(textColumn("Status", Result::getStatus));
+        table.getColumns().add(textColumn("Time Taken", Result::getTimeTakenString));
+        table.getColumns().add(textColumn("Grade", Result::getGrade));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        
+        int userId = currentUser.getId();
+        PagedTableLoader<Result> loader = new PagedTableLoader<>(table, RESULTS_PAGE_SIZE,
+                (last, limit) -> last == null
+                        ? resultDAO.getResultsByUserId(userId, null, 0, limit)
+                        : resultDAO.getResultsByUserId(userId, last.getExamDate(), last.getId(), limit),
+                e -> {
+                    Main.showAlert("Error", "Failed to load results: " + e.getMessage(), 
+                                 javafx.scene.control.Alert.AlertType.ERROR);
+                    e.printStackTrace();
+                });
+        loader.reload();
+        
+        Main.showTableDialog("Exam Results", table);
+    }
+    
+    /**
+     * Create a read-only text column
+     * @param title the column header
+     * @param value extracts the cell text from a result
+     * @return the column
+     */
+    private static TableColumn<Result, String> textColumn(String title, Function<Result, String> value) {
+        TableColumn<Result, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(cellData ->
+            new javafx.beans.property.SimpleStringProperty(value.apply(cellData.getValue())));
+        return column;
     }
     
     /**
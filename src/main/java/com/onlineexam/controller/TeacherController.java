@@ -1,22 +1,32 @@
 package com.onlineexam.controller;
 
 import com.onlineexam.dto.ApiResponse;
+import com.onlineexam.dto.CursorPage;
 import com.onlineexam.dto.ExamDto;
+import com.onlineexam.dto.ExamStatsDto;
 import com.onlineexam.dto.QuestionDto;
+import com.onlineexam.dto.QuestionImportReport;
 import com.onlineexam.dto.ResultDto;
 import com.onlineexam.service.ExamService;
+import com.onlineexam.service.ExamStatsService;
+import com.onlineexam.service.QuestionImportService;
 import com.onlineexam.service.QuestionService;
 import com.onlineexam.service.ResultService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -28,7 +38,9 @@ public class TeacherController {
     
     private final ExamService examService;
     private final QuestionService questionService;
+    private final QuestionImportService questionImportService;
     private final ResultService resultService;
+    private final ExamStatsService examStatsService;
     
     // Exam Management
     @PostMapping("/exams")
@@ -55,11 +67,25 @@ public class TeacherController {
         }
     }
     
+    @GetMapping("/exams/cursor")
+    @Operation(summary = "Get teacher's exams by cursor", description = "Retrieve exams created by the teacher newest first using an opaque continuation cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ExamDto>>> getTeacherExamsByCursor(@RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<ExamDto> page = examService.getExamsByTeacher(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get exams: " + e.getMessage()));
+        }
+    }
+    
     @GetMapping("/exams/{examId}")
-    @Operation(summary = "Get exam details", description = "Retrieve exam details by ID")
-    public ResponseEntity<ApiResponse<ExamDto>> getExamById(@PathVariable Long examId) {
+    @Operation(summary = "Get exam details", description = "Retrieve exam details by ID, with questions when requested")
+    public ResponseEntity<ApiResponse<ExamDto>> getExamById(@PathVariable Long examId,
+                                                           @RequestParam(defaultValue = "false") boolean includeQuestions) {
         try {
-            ExamDto exam = examService.getExamById(examId);
+            ExamDto exam = examService.getExamById(examId, includeQuestions);
             return ResponseEntity.ok(ApiResponse.success(exam));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -106,6 +132,23 @@ public class TeacherController {
         }
     }
     
+    @PostMapping(value = "/exams/{examId}/questions/import",
+                 consumes = {"text/csv", "application/json", "application/x-ndjson"})
+    @Operation(summary = "Import questions", description = "Bulk import questions into an exam from a CSV or JSON stream")
+    public ResponseEntity<ApiResponse<QuestionImportReport>> importQuestions(@PathVariable Long examId,
+                                                                            HttpServletRequest request) {
+        try {
+            QuestionImportService.ImportFormat format = request.getContentType().startsWith("text/csv")
+                    ? QuestionImportService.ImportFormat.CSV : QuestionImportService.ImportFormat.JSON;
+            QuestionImportReport report = questionImportService.importQuestions(examId, format, request.getInputStream());
+            return ResponseEntity.ok(ApiResponse.success(
+                    String.format("Imported %d questions, %d failed", report.getImported(), report.getFailed()), report));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to import questions: " + e.getMessage()));
+        }
+    }
+    
     @PutMapping("/questions/{questionId}")
     @Operation(summary = "Update question", description = "Update a question")
     public ResponseEntity<ApiResponse<QuestionDto>> updateQuestion(@PathVariable Long questionId, 
@@ -143,6 +186,58 @@ public class TeacherController {
                     .body(ApiResponse.error("Failed to get exam results: " + e.getMessage()));
         }
     }
+    
+    @GetMapping("/exams/{examId}/results/cursor")
+    @Operation(summary = "Get exam results by cursor", description = "View results of an exam newest first using an opaque continuation cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ResultDto>>> getExamResultsByCursor(@PathVariable Long examId,
+                                                                                     @RequestParam(required = false) String cursor,
+                                                                                     @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<ResultDto> page = resultService.getResultsByExam(examId, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get exam results: " + e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/exams/{examId}/results/export")
+    @Operation(summary = "Export exam results", description = "Stream all results of an exam as CSV or NDJSON")
+    public ResponseEntity<?> exportExamResults(@PathVariable Long examId,
+                                               @RequestParam(defaultValue = "csv") String format) {
+        ResultService.ExportFormat exportFormat;
+        try {
+            exportFormat = ResultService.ExportFormat.valueOf(format.toUpperCase());
+            resultService.checkCanViewExamResults(examId);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to export exam results: " + e.getMessage()));
+        }
+        
+        boolean csv = exportFormat == ResultService.ExportFormat.CSV;
+        MediaType contentType = csv
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson");
+        StreamingResponseBody body = outputStream -> resultService.exportResultsByExam(examId, exportFormat, outputStream);
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"exam-" + examId + "-results." + (csv ? "csv" : "ndjson") + "\"")
+                .contentType(contentType)
+                .body(body);
+    }
+    
+    @GetMapping("/exams/{examId}/stats")
+    @Operation(summary = "Get exam statistics", description = "View precomputed score statistics of an exam")
+    public ResponseEntity<ApiResponse<ExamStatsDto>> getExamStats(@PathVariable Long examId) {
+        try {
+            ExamStatsDto stats = examStatsService.getExamStats(examId);
+            return ResponseEntity.ok(ApiResponse.success(stats));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to get exam statistics: " + e.getMessage()));
+        }
+    }
 }
 
 
@@ -0,0 +1,20 @@
+package com.onlineexam.controller;
+
+/**
+ * Lifecycle hooks for controllers of cached views
+ * Views are loaded once and reused, so per-visit state is reset in
+ * {@link #onShow()} rather than in {@code initialize}
+ */
+public interface ViewLifecycle {
+    
+    /**
+     * Called on the FX thread each time the view becomes the current scene
+     */
+    void onShow();
+    
+    /**
+     * Called on the FX thread when another view replaces this one
+     */
+    default void onHide() {
+    }
+}
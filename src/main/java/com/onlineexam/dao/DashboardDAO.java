@@ -0,0 +1,84 @@
+package com.onlineexam.dao;
+
+import com.onlineexam.model.DashboardSummary;
+import com.onlineexam.util.DatabaseConnection;
+
+import java.sql.*;
+
+/**
+ * Data Access Object for dashboard summaries
+ * Returns all headline counters in one round trip and caches them briefly
+ */
+public class DashboardDAO {
+    
+    private static final long CACHE_TTL_MILLIS = 30_000;
+    
+    // Shared by all DAO instances
+    private static volatile DashboardSummary cachedSummary;
+    private static volatile long cachedAtMillis;
+    // Bumped by invalidate() so a load that overlapped it does not cache its stale summary
+    private static long generation;
+    
+    /**
+     * Get the dashboard summary, served from cache when younger than the TTL.
+     * Result counts and averages come from the precomputed exam_stats rows.
+     * @return the summary, or null if it could not be loaded
+     */
+    public DashboardSummary getSummary() {
+        DashboardSummary summary = cachedSummary;
+        if (summary != null && System.currentTimeMillis() - cachedAtMillis < CACHE_TTL_MILLIS) {
+            return summary;
+        }
+        
+        long loadGeneration;
+        synchronized (DashboardDAO.class) {
+            loadGeneration = generation;
+        }
+        
+        String sql = "SELECT (SELECT COUNT(*) FROM questions) as totalQuestions, " +
+                    "(SELECT COUNT(*) FROM users WHERE role = 'STUDENT') as totalStudents, " +
+                    "COALESCE(SUM(result_count), 0) as totalResults, " +
+                    "COALESCE(SUM(pass_count), 0) as passedResults, " +
+                    "COALESCE(SUM(fail_count), 0) as failedResults, " +
+                    "SUM(score_sum) / NULLIF(SUM(result_count), 0) as avgScore " +
+                    "FROM exam_stats";
+        
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            if (rs.next()) {
+                summary = new DashboardSummary(
+                    rs.getInt("totalQuestions"),
+                    rs.getInt("totalStudents"),
+                    rs.getLong("totalResults"),
+                    rs.getLong("passedResults"),
+                    rs.getLong("failedResults"),
+                    rs.getDouble("avgScore")
+                );
+                synchronized (DashboardDAO.class) {
+                    if (generation == loadGeneration) {
+                        cachedAtMillis = System.currentTimeMillis();
+                        cachedSummary = summary;
+                    }
+                }
+                return summary;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting dashboard summary: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Drop the cached summary so the next call reloads it
+     */
+    public static void invalidate() {
+        synchronized (DashboardDAO.class) {
+            generation++;
+            cachedSummary = null;
+        }
+    }
+}
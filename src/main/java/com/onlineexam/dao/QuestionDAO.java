@@ -2,11 +2,17 @@ package com.onlineexam.dao;
 
 import com.onlineexam.model.Question;
 import com.onlineexam.util.DatabaseConnection;
+import com.onlineexam.util.JdbcBatches;
+import com.onlineexam.util.RandomSampler;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 /**
  * Data Access Object for Question operations
@@ -14,6 +20,12 @@ import java.util.Random;
  */
 public class QuestionDAO {
     
+    // Also picks up questions changed outside this DAO (e.g. through the REST API)
+    private static final long ID_INDEX_MAX_AGE_MILLIS = 5 * 60 * 1000;
+    
+    // Shared by all DAO instances; rebuilt lazily after any add, update or delete
+    private static volatile QuestionIdIndex idIndex;
+    
     /**
      * Add a new question
      * @param question the question object to add
@@ -41,6 +53,8 @@ public class QuestionDAO {
                 if (generatedKeys.next()) {
                     question.setId(generatedKeys.getInt(1));
                 }
+                invalidateIdIndex();
+                DashboardDAO.invalidate();
                 return true;
             }
         } catch (SQLException e) {
@@ -51,6 +65,59 @@ public class QuestionDAO {
         return false;
     }
     
+    /**
+     * Add several questions in one transaction using JDBC batches
+     * @param questions the questions to add; their ids are set on success
+     * @return true if all questions were added, false otherwise (none are added)
+     */
+    public boolean addQuestions(List<Question> questions) {
+        String sql = "INSERT INTO questions (question_text, option_a, option_b, option_c, option_d, correct_option, category, difficulty) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                
+                for (int from = 0; from < questions.size(); from += JdbcBatches.CHUNK_SIZE) {
+                    List<Question> chunk = questions.subList(from, Math.min(from + JdbcBatches.CHUNK_SIZE, questions.size()));
+                    for (Question question : chunk) {
+                        stmt.setString(1, question.getQuestionText());
+                        stmt.setString(2, question.getOptionA());
+                        stmt.setString(3, question.getOptionB());
+                        stmt.setString(4, question.getOptionC());
+                        stmt.setString(5, question.getOptionD());
+                        stmt.setString(6, question.getCorrectOption());
+                        stmt.setString(7, question.getCategory());
+                        stmt.setInt(8, question.getDifficulty());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                    
+                    ResultSet generatedKeys = stmt.getGeneratedKeys();
+                    for (Question question : chunk) {
+                        if (generatedKeys.next()) {
+                            question.setId(generatedKeys.getInt(1));
+                        }
+                    }
+                }
+                
+                conn.commit();
+                invalidateIdIndex();
+                DashboardDAO.invalidate();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error adding questions: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return false;
+    }
+    
     /**
      * Get question by ID
      * @param questionId the question ID
@@ -125,17 +192,76 @@ public class QuestionDAO {
      * @return List of random questions
      */
     public List<Question> getRandomQuestions(int count) {
-        List<Question> questions = new ArrayList<>();
-        String sql = "SELECT * FROM questions ORDER BY RAND() LIMIT ?";
+        return getRandomQuestions(count, null, null);
+    }
+    
+    /**
+     * Get random questions from one category and/or difficulty level.
+     * Ids are drawn from the in-memory id index with Floyd's sampler and only the
+     * drawn rows are fetched, so the cost depends on count, not on the bank size.
+     * @param count number of questions to retrieve
+     * @param category category to draw from, or null for any
+     * @param difficulty difficulty level to draw from, or null for any
+     * @return List of random questions, fewer than count if not enough match
+     */
+    public List<Question> getRandomQuestions(int count, String category, Integer difficulty) {
+        return drawRandomQuestions(count, category, difficulty, ThreadLocalRandom::current);
+    }
+    
+    /**
+     * Get random questions drawn with generators from the given supplier.
+     * A supplier of identically seeded generators reproduces the same draw for as long as
+     * the question bank is unchanged, including when a stale id index forces a redraw.
+     * @param count number of questions to retrieve
+     * @param randoms supplies a fresh source of randomness for each draw and its order
+     * @return List of random questions
+     */
+    public List<Question> getRandomQuestions(int count, Supplier<? extends RandomGenerator> randoms) {
+        return drawRandomQuestions(count, null, null, randoms);
+    }
+    
+    private List<Question> drawRandomQuestions(int count, String category, Integer difficulty,
+                                               Supplier<? extends RandomGenerator> randoms) {
+        try {
+            QuestionIdIndex index = getIdIndex();
+            List<Question> questions = drawQuestions(index, count, category, difficulty, randoms.get());
+            
+            // Some drawn rows were deleted behind the index's back; rebuild it and draw again once,
+            // from a fresh generator so a seeded draw does not depend on whether the index was stale
+            if (questions.size() < Math.min(count, index.idsFor(category, difficulty).length)) {
+                invalidateIdIndex();
+                questions = drawQuestions(getIdIndex(), count, category, difficulty, randoms.get());
+            }
+            return questions;
+        } catch (SQLException e) {
+            System.err.println("Error getting random questions: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return new ArrayList<>();
+    }
+    
+    private List<Question> drawQuestions(QuestionIdIndex index, int count, String category, Integer difficulty,
+                                         RandomGenerator random) throws SQLException {
+        int[] ids = index.idsFor(category, difficulty);
+        int[] picks = RandomSampler.sampleIndices(ids.length, count, random);
+        if (picks.length == 0) {
+            return new ArrayList<>();
+        }
         
+        String sql = "SELECT * FROM questions WHERE id IN (" + JdbcBatches.placeholders(picks.length) + ")";
+        
+        Map<Integer, Question> byId = new HashMap<>(picks.length * 2);
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setInt(1, count);
+            for (int i = 0; i < picks.length; i++) {
+                stmt.setInt(i + 1, ids[picks[i]]);
+            }
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
-                questions.add(new Question(
+                Question question = new Question(
                     rs.getInt("id"),
                     rs.getString("question_text"),
                     rs.getString("option_a"),
@@ -145,16 +271,55 @@ public class QuestionDAO {
                     rs.getString("correct_option"),
                     rs.getString("category"),
                     rs.getInt("difficulty")
-                ));
+                );
+                byId.put(question.getId(), question);
             }
-        } catch (SQLException e) {
-            System.err.println("Error getting random questions: " + e.getMessage());
-            e.printStackTrace();
         }
         
+        // Keep the sampler's random order rather than the IN query's index order
+        List<Question> questions = new ArrayList<>(byId.size());
+        for (int pick : picks) {
+            Question question = byId.get(ids[pick]);
+            if (question != null) {
+                questions.add(question);
+            }
+        }
         return questions;
     }
     
+    private static QuestionIdIndex getIdIndex() throws SQLException {
+        QuestionIdIndex index = idIndex;
+        if (index == null || index.isOlderThan(ID_INDEX_MAX_AGE_MILLIS)) {
+            index = loadIdIndex();
+            idIndex = index;
+        }
+        return index;
+    }
+    
+    private static QuestionIdIndex loadIdIndex() throws SQLException {
+        // Ordered so that seeded draws map to the same questions on every load
+        String sql = "SELECT id, category, difficulty FROM questions ORDER BY id";
+        QuestionIdIndex.Builder builder = new QuestionIdIndex.Builder();
+        
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            while (rs.next()) {
+                builder.add(rs.getInt("id"), rs.getString("category"), rs.getInt("difficulty"));
+            }
+        }
+        
+        return builder.build();
+    }
+    
+    /**
+     * Drop the id index so the next random draw reloads it
+     */
+    private static void invalidateIdIndex() {
+        idIndex = null;
+    }
+    
     /**
      * Get questions by category
      * @param category the question category
@@ -248,7 +413,12 @@ public class QuestionDAO {
             stmt.setInt(8, question.getDifficulty());
             stmt.setInt(9, question.getId());
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                // Category and difficulty strata may have changed
+                invalidateIdIndex();
+            }
+            return updated;
         } catch (SQLException e) {
             System.err.println("Error updating question: " + e.getMessage());
             e.printStackTrace();
@@ -269,7 +439,12 @@ public class QuestionDAO {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, questionId);
-            return stmt.executeUpdate() > 0;
+            boolean deleted = stmt.executeUpdate() > 0;
+            if (deleted) {
+                invalidateIdIndex();
+                DashboardDAO.invalidate();
+            }
+            return deleted;
         } catch (SQLException e) {
             System.err.println("Error deleting question: " + e.getMessage());
             e.printStackTrace();
@@ -278,6 +453,36 @@ public class QuestionDAO {
         return false;
     }
     
+    /**
+     * Delete several questions in one transaction
+     * @param questionIds the question IDs to delete
+     * @return number of questions deleted, or -1 if the deletion failed (none are deleted)
+     */
+    public int deleteQuestions(int[] questionIds) {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int deleted = JdbcBatches.deleteByIds(conn, "questions", questionIds);
+                conn.commit();
+                if (deleted > 0) {
+                    invalidateIdIndex();
+                    DashboardDAO.invalidate();
+                }
+                return deleted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error deleting questions: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return -1;
+    }
+    
     /**
      * Get total number of questions
      * @return total count of questions
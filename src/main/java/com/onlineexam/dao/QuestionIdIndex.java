@@ -0,0 +1,95 @@
+package com.onlineexam.dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory index of question ids, grouped by category and difficulty.
+ * Lets random question selection pick ids without touching the questions table;
+ * only the drawn rows are then fetched by primary key.
+ */
+final class QuestionIdIndex {
+    
+    private static final int[] NO_IDS = new int[0];
+    
+    private final int[] allIds;
+    private final Map<String, int[]> idsByCategory;
+    private final Map<Integer, int[]> idsByDifficulty;
+    private final Map<String, int[]> idsByStratum;
+    private final long loadedAtMillis;
+    
+    private QuestionIdIndex(int[] allIds, Map<String, int[]> idsByCategory,
+                            Map<Integer, int[]> idsByDifficulty, Map<String, int[]> idsByStratum) {
+        this.allIds = allIds;
+        this.idsByCategory = idsByCategory;
+        this.idsByDifficulty = idsByDifficulty;
+        this.idsByStratum = idsByStratum;
+        this.loadedAtMillis = System.currentTimeMillis();
+    }
+    
+    /**
+     * @param category   category to restrict to, or null for any
+     * @param difficulty difficulty to restrict to, or null for any
+     * @return ids of the matching questions; callers must not modify the array
+     */
+    int[] idsFor(String category, Integer difficulty) {
+        if (category == null && difficulty == null) {
+            return allIds;
+        }
+        if (difficulty == null) {
+            return idsByCategory.getOrDefault(category, NO_IDS);
+        }
+        if (category == null) {
+            return idsByDifficulty.getOrDefault(difficulty, NO_IDS);
+        }
+        return idsByStratum.getOrDefault(stratumKey(category, difficulty), NO_IDS);
+    }
+    
+    boolean isOlderThan(long maxAgeMillis) {
+        return System.currentTimeMillis() - loadedAtMillis > maxAgeMillis;
+    }
+    
+    private static String stratumKey(String category, int difficulty) {
+        return category + '\u0000' + difficulty;
+    }
+    
+    /**
+     * Accumulates (id, category, difficulty) rows into an index
+     */
+    static final class Builder {
+        
+        private final List<Integer> ids = new ArrayList<>();
+        private final Map<String, List<Integer>> byCategory = new HashMap<>();
+        private final Map<Integer, List<Integer>> byDifficulty = new HashMap<>();
+        private final Map<String, List<Integer>> byStratum = new HashMap<>();
+        
+        void add(int id, String category, int difficulty) {
+            ids.add(id);
+            byDifficulty.computeIfAbsent(difficulty, key -> new ArrayList<>()).add(id);
+            if (category != null) {
+                byCategory.computeIfAbsent(category, key -> new ArrayList<>()).add(id);
+                byStratum.computeIfAbsent(stratumKey(category, difficulty), key -> new ArrayList<>()).add(id);
+            }
+        }
+        
+        QuestionIdIndex build() {
+            return new QuestionIdIndex(toArray(ids), toArrays(byCategory), toArrays(byDifficulty), toArrays(byStratum));
+        }
+        
+        private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> groups) {
+            Map<K, int[]> arrays = new HashMap<>(groups.size() * 2);
+            groups.forEach((key, group) -> arrays.put(key, toArray(group)));
+            return arrays;
+        }
+        
+        private static int[] toArray(List<Integer> values) {
+            int[] array = new int[values.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = values.get(i);
+            }
+            return array;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.onlineexam.dao;
 
+import com.onlineexam.model.ExamStatsDelta;
 import com.onlineexam.model.Result;
 import com.onlineexam.util.DatabaseConnection;
+import com.onlineexam.util.JdbcBatches;
 
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object for Result operations
@@ -22,27 +26,39 @@ public class ResultDAO {
     public boolean saveResult(Result result) {
         String sql = "INSERT INTO results (exam_id, student_id, username, total_questions, correct_answers, score, submitted_at, time_taken, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
-            stmt.setInt(1, result.getExamId());
-            stmt.setInt(2, result.getUserId());
-            stmt.setString(3, result.getUsername());
-            stmt.setInt(4, result.getTotalQuestions());
-            stmt.setInt(5, result.getCorrectAnswers());
-            stmt.setInt(6, result.getScore());
-            stmt.setTimestamp(7, Timestamp.valueOf(result.getExamDate()));
-            stmt.setInt(8, result.getTimeTaken());
-            stmt.setString(9, result.getStatus());
+                stmt.setInt(1, result.getExamId());
+                stmt.setInt(2, result.getUserId());
+                stmt.setString(3, result.getUsername());
+                stmt.setInt(4, result.getTotalQuestions());
+                stmt.setInt(5, result.getCorrectAnswers());
+                stmt.setInt(6, result.getScore());
+                stmt.setTimestamp(7, Timestamp.valueOf(result.getExamDate()));
+                stmt.setInt(8, result.getTimeTaken());
+                stmt.setString(9, result.getStatus());
 
-            int affectedRows = stmt.executeUpdate();
+                int affectedRows = stmt.executeUpdate();
 
-            if (affectedRows > 0) {
-                ResultSet generatedKeys = stmt.getGeneratedKeys();
-                if (generatedKeys.next()) {
-                    result.setId(generatedKeys.getInt(1));
+                if (affectedRows > 0) {
+                    ResultSet generatedKeys = stmt.getGeneratedKeys();
+                    if (generatedKeys.next()) {
+                        result.setId(generatedKeys.getInt(1));
+                    }
+                    // Keep the per-exam aggregate in step with the insert
+                    applyExamStatsDelta(conn, new ExamStatsDelta(result.getExamId()).add(result.getScore()));
+                    conn.commit();
+                    DashboardDAO.invalidate();
+                    return true;
                 }
-                return true;
+                conn.rollback();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
         } catch (SQLException e) {
             System.err.println("Error saving result: " + e.getMessage());
@@ -52,6 +68,103 @@ public class ResultDAO {
         return false;
     }
     
+    /**
+     * Save several exam results in one transaction using JDBC batches.
+     * The exam_stats rows are updated once per exam with the folded scores.
+     * @param results the results to save; their ids are set on success
+     * @return true if all results were saved, false otherwise (none are saved)
+     */
+    public boolean saveResults(List<Result> results) {
+        String sql = "INSERT INTO results (exam_id, student_id, username, total_questions, correct_answers, score, submitted_at, time_taken, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                Map<Long, ExamStatsDelta> deltas = new LinkedHashMap<>();
+                
+                for (int from = 0; from < results.size(); from += JdbcBatches.CHUNK_SIZE) {
+                    List<Result> chunk = results.subList(from, Math.min(from + JdbcBatches.CHUNK_SIZE, results.size()));
+                    for (Result result : chunk) {
+                        stmt.setInt(1, result.getExamId());
+                        stmt.setInt(2, result.getUserId());
+                        stmt.setString(3, result.getUsername());
+                        stmt.setInt(4, result.getTotalQuestions());
+                        stmt.setInt(5, result.getCorrectAnswers());
+                        stmt.setInt(6, result.getScore());
+                        stmt.setTimestamp(7, Timestamp.valueOf(result.getExamDate()));
+                        stmt.setInt(8, result.getTimeTaken());
+                        stmt.setString(9, result.getStatus());
+                        stmt.addBatch();
+                        
+                        deltas.computeIfAbsent((long) result.getExamId(), ExamStatsDelta::new).add(result.getScore());
+                    }
+                    stmt.executeBatch();
+                    
+                    ResultSet generatedKeys = stmt.getGeneratedKeys();
+                    for (Result result : chunk) {
+                        if (generatedKeys.next()) {
+                            result.setId(generatedKeys.getInt(1));
+                        }
+                    }
+                }
+                
+                for (ExamStatsDelta delta : deltas.values()) {
+                    applyExamStatsDelta(conn, delta);
+                }
+                conn.commit();
+                DashboardDAO.invalidate();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saving results: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Apply a delta to the exam's exam_stats row
+     * @param conn connection whose transaction the update joins
+     */
+    static void applyExamStatsDelta(Connection conn, ExamStatsDelta delta) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(ExamStatsDelta.UPSERT_SQL)) {
+            delta.bind(stmt);
+            stmt.executeUpdate();
+        }
+    }
+    
+    /**
+     * Take the students' results out of exam_stats before the students are deleted,
+     * since their results are removed by the users foreign key cascade
+     * @param conn connection whose transaction the delete runs in
+     */
+    static void removeExamStatsOfStudents(Connection conn, int[] studentIds) throws SQLException {
+        Map<Long, ExamStatsDelta> deltas = new LinkedHashMap<>();
+        for (int from = 0; from < studentIds.length; from += JdbcBatches.CHUNK_SIZE) {
+            int to = Math.min(from + JdbcBatches.CHUNK_SIZE, studentIds.length);
+            String sql = "SELECT exam_id, score FROM results WHERE student_id IN (" +
+                    JdbcBatches.placeholders(to - from) + ") FOR UPDATE";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = from; i < to; i++) {
+                    stmt.setInt(i - from + 1, studentIds[i]);
+                }
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    deltas.computeIfAbsent(rs.getLong("exam_id"), ExamStatsDelta::new).remove(rs.getInt("score"));
+                }
+            }
+        }
+        for (ExamStatsDelta delta : deltas.values()) {
+            applyExamStatsDelta(conn, delta);
+        }
+    }
+    
     /**
      * Get result by ID
      * @param resultId the result ID
@@ -123,6 +236,60 @@ public class ResultDAO {
         return results;
     }
     
+    /**
+     * Get one page of results for a user, newest first.
+     * Uses keyset pagination on (submitted_at, id) so deep pages cost the same as the first.
+     * @param userId the user ID
+     * @param afterSubmittedAt submission time of the last result on the previous page, or null for the first page
+     * @param afterId ID of the last result on the previous page
+     * @param limit maximum number of results to return
+     * @return List of at most limit results
+     */
+    public List<Result> getResultsByUserId(int userId, LocalDateTime afterSubmittedAt, int afterId, int limit) {
+        List<Result> results = new ArrayList<>();
+        String sql = afterSubmittedAt == null
+                ? "SELECT * FROM results WHERE student_id = ? " +
+                  "ORDER BY submitted_at DESC, id DESC LIMIT ?"
+                : "SELECT * FROM results WHERE student_id = ? " +
+                  "AND (submitted_at < ? OR (submitted_at = ? AND id < ?)) " +
+                  "ORDER BY submitted_at DESC, id DESC LIMIT ?";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            stmt.setInt(index++, userId);
+            if (afterSubmittedAt != null) {
+                Timestamp after = Timestamp.valueOf(afterSubmittedAt);
+                stmt.setTimestamp(index++, after);
+                stmt.setTimestamp(index++, after);
+                stmt.setInt(index++, afterId);
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(new Result(
+                        rs.getInt("id"),
+                        rs.getInt("student_id"),
+                        rs.getString("username"),
+                        rs.getInt("total_questions"),
+                        rs.getInt("correct_answers"),
+                        rs.getInt("score"),
+                        rs.getTimestamp("submitted_at").toLocalDateTime(),
+                        rs.getInt("time_taken"),
+                        rs.getString("status")
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting result page by user ID: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return results;
+    }
+    
     /**
      * Get all results
      * @return List of all results
@@ -264,14 +431,15 @@ public class ResultDAO {
     
     /**
      * Get statistics for all results
+     * Reads the precomputed exam_stats rows instead of aggregating the results table
      * @return Array containing [totalExams, passedExams, failedExams, averageScore]
      */
     public double[] getResultStatistics() {
-        String sql = "SELECT COUNT(*) as total, " +
-                    "SUM(CASE WHEN status = 'PASSED' THEN 1 ELSE 0 END) as passed, " +
-                    "SUM(CASE WHEN status = 'FAILED' THEN 1 ELSE 0 END) as failed, " +
-                    "AVG(score) as avgScore " +
-                    "FROM results";
+        String sql = "SELECT COALESCE(SUM(result_count), 0) as total, " +
+                    "COALESCE(SUM(pass_count), 0) as passed, " +
+                    "COALESCE(SUM(fail_count), 0) as failed, " +
+                    "SUM(score_sum) / NULLIF(SUM(result_count), 0) as avgScore " +
+                    "FROM exam_stats";
         
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
@@ -279,9 +447,9 @@ public class ResultDAO {
             
             if (rs.next()) {
                 return new double[]{
-                    rs.getInt("total"),
-                    rs.getInt("passed"),
-                    rs.getInt("failed"),
+                    rs.getLong("total"),
+                    rs.getLong("passed"),
+                    rs.getLong("failed"),
                     rs.getDouble("avgScore")
                 };
             }
@@ -335,13 +503,37 @@ public class ResultDAO {
      * @return true if deletion successful, false otherwise
      */
     public boolean deleteResult(int resultId) {
-        String sql = "DELETE FROM results WHERE id = ?";
+        String selectSql = "SELECT exam_id, score FROM results WHERE id = ? FOR UPDATE";
+        String deleteSql = "DELETE FROM results WHERE id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setInt(1, resultId);
-            return stmt.executeUpdate() > 0;
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement selectStmt = conn.prepareStatement(selectSql);
+                 PreparedStatement deleteStmt = conn.prepareStatement(deleteSql)) {
+                
+                selectStmt.setInt(1, resultId);
+                ResultSet rs = selectStmt.executeQuery();
+                if (!rs.next()) {
+                    conn.rollback();
+                    return false;
+                }
+                int examId = rs.getInt("exam_id");
+                int score = rs.getInt("score");
+                
+                deleteStmt.setInt(1, resultId);
+                boolean deleted = deleteStmt.executeUpdate() > 0;
+                if (deleted) {
+                    applyExamStatsDelta(conn, new ExamStatsDelta(examId).remove(score));
+                }
+                conn.commit();
+                DashboardDAO.invalidate();
+                return deleted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             System.err.println("Error deleting result: " + e.getMessage());
             e.printStackTrace();
@@ -2,6 +2,7 @@ package com.onlineexam.dao;
 
 import com.onlineexam.model.User;
 import com.onlineexam.util.DatabaseConnection;
+import com.onlineexam.util.JdbcBatches;
 import com.onlineexam.util.PasswordUtil;
 
 import java.sql.*;
@@ -78,6 +79,7 @@ public class UserDAO {
                 if (generatedKeys.next()) {
                     user.setId(generatedKeys.getInt(1));
                 }
+                DashboardDAO.invalidate();
                 return true;
             }
         } catch (SQLException e) {
@@ -237,6 +239,53 @@ public class UserDAO {
         return students;
     }
     
+    /**
+     * Get one page of students ordered by name.
+     * Uses keyset pagination on (name, id) so deep pages cost the same as the first.
+     * @param afterName name of the last student on the previous page, or null for the first page
+     * @param afterId ID of the last student on the previous page
+     * @param limit maximum number of students to return
+     * @return List of at most limit students, without their password hashes
+     */
+    public List<User> getStudents(String afterName, int afterId, int limit) {
+        List<User> students = new ArrayList<>();
+        String sql = afterName == null
+                ? "SELECT id, name, role, email FROM users WHERE role = 'STUDENT' ORDER BY name, id LIMIT ?"
+                : "SELECT id, name, role, email FROM users WHERE role = 'STUDENT' " +
+                  "AND (name > ? OR (name = ? AND id > ?)) " +
+                  "ORDER BY name, id LIMIT ?";
+        
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (afterName != null) {
+                stmt.setString(index++, afterName);
+                stmt.setString(index++, afterName);
+                stmt.setInt(index++, afterId);
+            }
+            stmt.setInt(index, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    students.add(new User(
+                        rs.getInt("id"),
+                        rs.getString("name"), // username field is 'name' in DB
+                        null,
+                        rs.getString("role"),
+                        rs.getString("email"),
+                        rs.getString("name") // full_name is also 'name' in DB
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting student page: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return students;
+    }
+    
     /**
      * Update user information
      * @param user the user object with updated information
@@ -295,11 +344,23 @@ public class UserDAO {
     public boolean deleteUser(int userId) {
         String sql = "DELETE FROM users WHERE id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setInt(1, userId);
-            return stmt.executeUpdate() > 0;
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                ResultDAO.removeExamStatsOfStudents(conn, new int[]{userId});
+                stmt.setInt(1, userId);
+                boolean deleted = stmt.executeUpdate() > 0;
+                conn.commit();
+                if (deleted) {
+                    DashboardDAO.invalidate();
+                }
+                return deleted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             System.err.println("Error deleting user: " + e.getMessage());
             e.printStackTrace();
@@ -307,4 +368,32 @@ public class UserDAO {
         
         return false;
     }
+    
+    /**
+     * Delete several users in one transaction
+     * @param userIds the user IDs to delete
+     * @return number of users deleted, or -1 if the deletion failed (none are deleted)
+     */
+    public int deleteUsers(int[] userIds) {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                ResultDAO.removeExamStatsOfStudents(conn, userIds);
+                int deleted = JdbcBatches.deleteByIds(conn, "users", userIds);
+                conn.commit();
+                DashboardDAO.invalidate();
+                return deleted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error deleting users: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return -1;
+    }
 }
@@ -0,0 +1,34 @@
+package com.onlineexam.dto;
+
+import com.onlineexam.util.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    
+    /**
+     * Build a page from a keyset slice; the cursor points at its last row
+     */
+    public static <T> CursorPage<T> of(Slice<T> slice, Function<T, LocalDateTime> timestamp, Function<T, Long> id) {
+        List<T> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            T last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(timestamp.apply(last), id.apply(last));
+        }
+        return new CursorPage<>(content, nextCursor, nextCursor != null);
+    }
+}
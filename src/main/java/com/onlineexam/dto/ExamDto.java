@@ -5,11 +5,13 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
+@NoArgsConstructor
 public class ExamDto {
     
     private Long id;
@@ -31,6 +33,22 @@ public class ExamDto {
     private LocalDateTime updatedAt;
     private List<QuestionDto> questions;
     private Integer totalQuestions;
+    
+    // Catalog summary row built by a JPQL constructor expression; questions stay unloaded
+    public ExamDto(Long id, String title, String description, Long categoryId, String categoryName,
+                   Long createdById, String createdByName, LocalDateTime createdAt, LocalDateTime updatedAt,
+                   Long totalQuestions) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.createdById = createdById;
+        this.createdByName = createdByName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.totalQuestions = totalQuestions.intValue();
+    }
 }
 
 
@@ -0,0 +1,20 @@
+package com.onlineexam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Question as served to a student taking an exam: no correct answer, options in display order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExamQuestionDto {
+    
+    private Long id;
+    private String questionText;
+    private List<String> options;
+}
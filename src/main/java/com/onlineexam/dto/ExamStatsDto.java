@@ -0,0 +1,24 @@
+package com.onlineexam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExamStatsDto {
+    
+    private Long examId;
+    private String examTitle;
+    private long resultCount;
+    private double averageScore;
+    private double standardDeviation;
+    private long passCount;
+    private long failCount;
+    private double passRate;
+    private long[] histogram;
+    private LocalDateTime updatedAt;
+}
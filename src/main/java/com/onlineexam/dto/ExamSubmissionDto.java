@@ -2,7 +2,10 @@ package com.onlineexam.dto;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -16,6 +19,13 @@ public class ExamSubmissionDto {
     @NotNull(message = "Answers are required")
     private List<AnswerDto> answers;
     
+    // Optional client-generated key; resubmitting with the same token returns the stored result
+    @Size(max = 64, message = "Submission token must not exceed 64 characters")
+    private String submissionToken;
+    
+    // True when selectedAnswer indices refer to the shuffled option order served to the student
+    private boolean shuffled;
+    
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,29 @@
+package com.onlineexam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class QuestionImportReport {
+    
+    private int imported;
+    private int failed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        
+        private long row;
+        private String message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.onlineexam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionReceiptDto {
+
+    private String submissionToken;
+    private Long examId;
+    private Long studentId;
+    private String status;
+    private LocalDateTime receivedAt;
+}
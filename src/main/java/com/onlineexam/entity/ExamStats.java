@@ -0,0 +1,79 @@
+package com.onlineexam.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running score aggregate for one exam.
+ * Maintained incrementally in the same transaction as each result insert, so
+ * dashboards read statistics from a single row instead of scanning results.
+ */
+@Entity
+@Table(name = "exam_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExamStats {
+    
+    @Id
+    @Column(name = "exam_id")
+    private Long examId;
+    
+    @Column(name = "result_count", nullable = false)
+    private long resultCount;
+    
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+    
+    @Column(name = "score_square_sum", nullable = false)
+    private long scoreSquareSum;
+    
+    @Column(name = "pass_count", nullable = false)
+    private long passCount;
+    
+    @Column(name = "fail_count", nullable = false)
+    private long failCount;
+    
+    // Score histogram: bucket i counts scores in [10 * i, 10 * i + 9], the last bucket includes 100
+    @Column(name = "bucket_0", nullable = false)
+    private long bucket0;
+    
+    @Column(name = "bucket_1", nullable = false)
+    private long bucket1;
+    
+    @Column(name = "bucket_2", nullable = false)
+    private long bucket2;
+    
+    @Column(name = "bucket_3", nullable = false)
+    private long bucket3;
+    
+    @Column(name = "bucket_4", nullable = false)
+    private long bucket4;
+    
+    @Column(name = "bucket_5", nullable = false)
+    private long bucket5;
+    
+    @Column(name = "bucket_6", nullable = false)
+    private long bucket6;
+    
+    @Column(name = "bucket_7", nullable = false)
+    private long bucket7;
+    
+    @Column(name = "bucket_8", nullable = false)
+    private long bucket8;
+    
+    @Column(name = "bucket_9", nullable = false)
+    private long bucket9;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public long[] getHistogram() {
+        return new long[]{bucket0, bucket1, bucket2, bucket3, bucket4,
+                bucket5, bucket6, bucket7, bucket8, bucket9};
+    }
+}
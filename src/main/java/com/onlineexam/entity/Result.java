@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "results")
+@Table(name = "results", uniqueConstraints = {
+    @UniqueConstraint(name = "unique_exam_student", columnNames = {"exam_id", "student_id"}),
+    @UniqueConstraint(name = "unique_submission_token", columnNames = "submission_token")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,9 +41,14 @@ public class Result {
     @Column(name = "submitted_at", nullable = false, updatable = false)
     private LocalDateTime submittedAt;
     
+    @Column(name = "submission_token", length = 64, updatable = false)
+    private String submissionToken;
+    
     @PrePersist
     protected void onCreate() {
-        submittedAt = LocalDateTime.now();
+        if (submittedAt == null) {
+            submittedAt = LocalDateTime.now();
+        }
     }
 }
 
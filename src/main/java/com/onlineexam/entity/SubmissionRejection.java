@@ -0,0 +1,46 @@
+package com.onlineexam.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a queued submission that could not be stored as a result.
+ * Lets students polling by submission token learn that the submission was
+ * rejected instead of waiting for a result that will never appear.
+ */
+@Entity
+@Table(name = "submission_rejections")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionRejection {
+    
+    public static final String STATUS_DUPLICATE = "DUPLICATE";
+    public static final String STATUS_FAILED = "FAILED";
+    
+    @Id
+    @Column(name = "submission_token", length = 64)
+    private String submissionToken;
+    
+    @Column(name = "exam_id", nullable = false)
+    private Long examId;
+    
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+    
+    @Column(nullable = false, length = 20)
+    private String status;
+    
+    @Column(length = 500)
+    private String reason;
+    
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+    
+    @Column(name = "rejected_at", nullable = false)
+    private LocalDateTime rejectedAt;
+}
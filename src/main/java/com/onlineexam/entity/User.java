@@ -36,6 +36,10 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Role role;
     
+    // Bumped to revoke every token issued to the user so far
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
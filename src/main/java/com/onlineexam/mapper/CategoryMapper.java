@@ -0,0 +1,24 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.CategoryDto;
+import com.onlineexam.entity.Category;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryMapper {
+    
+    public CategoryDto toDto(Category category) {
+        CategoryDto dto = new CategoryDto();
+        dto.setId(category.getId());
+        dto.setName(category.getName());
+        dto.setDescription(category.getDescription());
+        return dto;
+    }
+    
+    public Category toEntity(CategoryDto dto) {
+        Category category = new Category();
+        category.setName(dto.getName());
+        category.setDescription(dto.getDescription());
+        return category;
+    }
+}
@@ -0,0 +1,20 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.ExamDto;
+import com.onlineexam.entity.Exam;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExamMapper {
+    
+    /**
+     * Map an exam whose category and creator are already loaded; questions are not touched
+     * @param questionCount number of questions to report in totalQuestions
+     */
+    public ExamDto toSummaryDto(Exam exam, long questionCount) {
+        return new ExamDto(exam.getId(), exam.getTitle(), exam.getDescription(),
+                exam.getCategory().getId(), exam.getCategory().getName(),
+                exam.getCreatedBy().getId(), exam.getCreatedBy().getName(),
+                exam.getCreatedAt(), exam.getUpdatedAt(), questionCount);
+    }
+}
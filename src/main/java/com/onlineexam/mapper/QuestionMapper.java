@@ -0,0 +1,27 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.QuestionDto;
+import com.onlineexam.entity.Question;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+@Component
+public class QuestionMapper {
+    
+    /**
+     * Map a question; reading the exam id does not initialize the lazy exam proxy,
+     * but the options collection is read, so fetch it with the question on list paths
+     */
+    public QuestionDto toDto(Question question) {
+        QuestionDto dto = new QuestionDto();
+        dto.setId(question.getId());
+        dto.setQuestionText(question.getQuestionText());
+        dto.setOptions(question.getOptions() != null ? new ArrayList<>(question.getOptions()) : null);
+        dto.setCorrectAnswer(question.getCorrectAnswer());
+        dto.setExamId(question.getExam() != null ? question.getExam().getId() : null);
+        dto.setCreatedAt(question.getCreatedAt());
+        dto.setUpdatedAt(question.getUpdatedAt());
+        return dto;
+    }
+}
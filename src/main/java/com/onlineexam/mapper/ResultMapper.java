@@ -0,0 +1,29 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.ResultDto;
+import com.onlineexam.entity.Exam;
+import com.onlineexam.entity.Result;
+import com.onlineexam.entity.User;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResultMapper {
+    
+    /**
+     * Map a result using already-loaded exam and student, so neither lazy association is read
+     */
+    public ResultDto toDto(Result result, Exam exam, User student) {
+        return new ResultDto(result.getId(), exam.getId(), exam.getTitle(), student.getId(), student.getName(),
+                result.getScore(), result.getTotalQuestions(), result.getCorrectAnswers(),
+                result.getSubmittedAt(), gradeOf(result.getScore()));
+    }
+    
+    // Same thresholds as the grade CASE in ResultRepository.RESULT_DTO_SELECT
+    public static String gradeOf(int score) {
+        if (score >= 90) return "A";
+        if (score >= 80) return "B";
+        if (score >= 70) return "C";
+        if (score >= 60) return "D";
+        return "F";
+    }
+}
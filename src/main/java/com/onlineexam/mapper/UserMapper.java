@@ -0,0 +1,15 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.UserDto;
+import com.onlineexam.entity.User;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserMapper {
+    
+    // The password hash is never copied
+    public UserDto toDto(User user) {
+        return new UserDto(user.getId(), user.getName(), user.getEmail(), user.getRole(),
+                user.getCreatedAt(), user.getUpdatedAt());
+    }
+}
@@ -0,0 +1,77 @@
+package com.onlineexam.model;
+
+/**
+ * DashboardSummary model class holding the admin dashboard's headline counters
+ * Immutable snapshot produced by a single summary query
+ */
+public class DashboardSummary {
+    private final int totalQuestions;
+    private final int totalStudents;
+    private final long totalResults;
+    private final long passedResults;
+    private final long failedResults;
+    private final double averageScore;
+
+    /**
+     * Constructor with all fields
+     * @param totalQuestions number of questions in the bank
+     * @param totalStudents number of registered students
+     * @param totalResults number of exam results
+     * @param passedResults number of passed exam results
+     * @param failedResults number of failed exam results
+     * @param averageScore average score over all results
+     */
+    public DashboardSummary(int totalQuestions, int totalStudents, long totalResults,
+                            long passedResults, long failedResults, double averageScore) {
+        this.totalQuestions = totalQuestions;
+        this.totalStudents = totalStudents;
+        this.totalResults = totalResults;
+        this.passedResults = passedResults;
+        this.failedResults = failedResults;
+        this.averageScore = averageScore;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public int getTotalStudents() {
+        return totalStudents;
+    }
+
+    public long getTotalResults() {
+        return totalResults;
+    }
+
+    public long getPassedResults() {
+        return passedResults;
+    }
+
+    public long getFailedResults() {
+        return failedResults;
+    }
+
+    public double getAverageScore() {
+        return averageScore;
+    }
+
+    /**
+     * Get pass rate as a percentage
+     * @return pass rate, or 0 if there are no results
+     */
+    public double getPassRate() {
+        return totalResults == 0 ? 0.0 : (double) passedResults / totalResults * 100;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardSummary{" +
+                "totalQuestions=" + totalQuestions +
+                ", totalStudents=" + totalStudents +
+                ", totalResults=" + totalResults +
+                ", passedResults=" + passedResults +
+                ", failedResults=" + failedResults +
+                ", averageScore=" + averageScore +
+                '}';
+    }
+}
@@ -0,0 +1,124 @@
+package com.onlineexam.model;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * ExamStatsDelta model class holding a change to one exam's exam_stats row
+ * Scores added with {@link #add(int)} and removed with {@link #remove(int)} are
+ * folded together so a batch of results becomes a single upsert per exam.
+ * Shared by the desktop DAOs and the server, so {@link #UPSERT_SQL} is the only
+ * statement that writes exam_stats.
+ */
+public class ExamStatsDelta {
+    public static final int PASS_SCORE = 60;
+    public static final int HISTOGRAM_BUCKETS = 10;
+
+    /**
+     * Atomically add a delta to an exam's aggregate row, creating it on first use;
+     * parameters are bound by {@link #bind(PreparedStatement)}
+     */
+    public static final String UPSERT_SQL =
+            "INSERT INTO exam_stats (exam_id, result_count, score_sum, score_square_sum, pass_count, fail_count, " +
+            "bucket_0, bucket_1, bucket_2, bucket_3, bucket_4, bucket_5, bucket_6, bucket_7, bucket_8, bucket_9, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE result_count = result_count + VALUES(result_count), " +
+            "score_sum = score_sum + VALUES(score_sum), " +
+            "score_square_sum = score_square_sum + VALUES(score_square_sum), " +
+            "pass_count = pass_count + VALUES(pass_count), " +
+            "fail_count = fail_count + VALUES(fail_count), " +
+            "bucket_0 = bucket_0 + VALUES(bucket_0), bucket_1 = bucket_1 + VALUES(bucket_1), " +
+            "bucket_2 = bucket_2 + VALUES(bucket_2), bucket_3 = bucket_3 + VALUES(bucket_3), " +
+            "bucket_4 = bucket_4 + VALUES(bucket_4), bucket_5 = bucket_5 + VALUES(bucket_5), " +
+            "bucket_6 = bucket_6 + VALUES(bucket_6), bucket_7 = bucket_7 + VALUES(bucket_7), " +
+            "bucket_8 = bucket_8 + VALUES(bucket_8), bucket_9 = bucket_9 + VALUES(bucket_9), " +
+            "updated_at = NOW()";
+
+    private final long examId;
+    private long resultCount;
+    private long scoreSum;
+    private long scoreSquareSum;
+    private long passCount;
+    private long failCount;
+    private final long[] buckets = new long[HISTOGRAM_BUCKETS];
+
+    /**
+     * Constructor for an empty delta
+     * @param examId the exam whose row the delta applies to
+     */
+    public ExamStatsDelta(long examId) {
+        this.examId = examId;
+    }
+
+    public ExamStatsDelta add(int score) {
+        apply(score, 1);
+        return this;
+    }
+
+    public ExamStatsDelta remove(int score) {
+        apply(score, -1);
+        return this;
+    }
+
+    /**
+     * Bind this delta to the parameters of {@link #UPSERT_SQL}
+     */
+    public void bind(PreparedStatement stmt) throws SQLException {
+        stmt.setLong(1, examId);
+        stmt.setLong(2, resultCount);
+        stmt.setLong(3, scoreSum);
+        stmt.setLong(4, scoreSquareSum);
+        stmt.setLong(5, passCount);
+        stmt.setLong(6, failCount);
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            stmt.setLong(7 + i, buckets[i]);
+        }
+    }
+
+    /**
+     * @return histogram bucket of a score; bucket i holds scores [10i, 10i + 10), the last one up to 100
+     */
+    public static int bucketOf(int score) {
+        return Math.max(0, Math.min(score / 10, HISTOGRAM_BUCKETS - 1));
+    }
+
+    public long getExamId() {
+        return examId;
+    }
+
+    public long getResultCount() {
+        return resultCount;
+    }
+
+    public long getScoreSum() {
+        return scoreSum;
+    }
+
+    public long getScoreSquareSum() {
+        return scoreSquareSum;
+    }
+
+    public long getPassCount() {
+        return passCount;
+    }
+
+    public long getFailCount() {
+        return failCount;
+    }
+
+    public long getBucket(int bucket) {
+        return buckets[bucket];
+    }
+
+    private void apply(int score, int sign) {
+        resultCount += sign;
+        scoreSum += (long) sign * score;
+        scoreSquareSum += (long) sign * score * score;
+        if (score >= PASS_SCORE) {
+            passCount += sign;
+        } else {
+            failCount += sign;
+        }
+        buckets[bucketOf(score)] += sign;
+    }
+}
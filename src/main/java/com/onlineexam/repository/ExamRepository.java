@@ -1,15 +1,19 @@
 package com.onlineexam.repository;
 
+import com.onlineexam.dto.ExamDto;
 import com.onlineexam.entity.Exam;
 import com.onlineexam.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ExamRepository extends JpaRepository<Exam, Long> {
@@ -23,6 +27,40 @@ public interface ExamRepository extends JpaRepository<Exam, Long> {
     @Query("SELECT e FROM Exam e WHERE e.category.id = :categoryId")
     List<Exam> findByCategoryId(@Param("categoryId") Long categoryId);
     
+    // Exam summaries with category, creator and question count in one statement; never touches e.questions
+    String EXAM_SUMMARY_SELECT = "SELECT new com.onlineexam.dto.ExamDto(e.id, e.title, e.description, " +
+            "c.id, c.name, u.id, u.name, e.createdAt, e.updatedAt, " +
+            "(SELECT COUNT(q) FROM Question q WHERE q.exam = e)) " +
+            "FROM Exam e JOIN e.category c JOIN e.createdBy u ";
+    
+    @Query(EXAM_SUMMARY_SELECT + "WHERE e.id = :examId")
+    Optional<ExamDto> findExamSummaryById(@Param("examId") Long examId);
+    
+    @Query(value = EXAM_SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(e) FROM Exam e")
+    Page<ExamDto> findExamSummaries(Pageable pageable);
+    
+    @Query(value = EXAM_SUMMARY_SELECT + "WHERE c.id = :categoryId",
+           countQuery = "SELECT COUNT(e) FROM Exam e WHERE e.category.id = :categoryId")
+    Page<ExamDto> findExamSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+    
+    @Query(value = EXAM_SUMMARY_SELECT + "WHERE u.id = :createdById",
+           countQuery = "SELECT COUNT(e) FROM Exam e WHERE e.createdBy.id = :createdById")
+    Page<ExamDto> findExamSummariesByCreatedById(@Param("createdById") Long createdById, Pageable pageable);
+    
+    // Keyset pages ordered newest first; see KeysetCursor
+    @Query(EXAM_SUMMARY_SELECT + "WHERE e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<ExamDto> findExamSummarySliceBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                              Pageable pageable);
+    
+    @Query(EXAM_SUMMARY_SELECT + "WHERE u.id = :createdById " +
+           "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<ExamDto> findExamSummarySliceByCreatedByBefore(@Param("createdById") Long createdById,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id, Pageable pageable);
+    
     @Query("SELECT COUNT(q) FROM Question q WHERE q.exam.id = :examId")
     Long countQuestionsByExamId(@Param("examId") Long examId);
 }
@@ -0,0 +1,12 @@
+package com.onlineexam.repository;
+
+import com.onlineexam.entity.ExamStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads exam_stats rows; writes go through {@link com.onlineexam.model.ExamStatsDelta#UPSERT_SQL}
+ */
+@Repository
+public interface ExamStatsRepository extends JpaRepository<ExamStats, Long> {
+}
@@ -3,6 +3,8 @@ package com.onlineexam.repository;
 import com.onlineexam.entity.Exam;
 import com.onlineexam.entity.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +17,12 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByExamId(Long examId);
     
     void deleteByExamId(Long examId);
+    
+    @Query("SELECT q.id, q.correctAnswer, SIZE(q.options) FROM Question q WHERE q.exam.id = :examId")
+    List<Object[]> findAnswerKeyByExamId(@Param("examId") Long examId);
+    
+    @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.options WHERE q.exam.id = :examId ORDER BY q.id")
+    List<Question> findWithOptionsByExamIdOrderById(@Param("examId") Long examId);
 }
 
 
@@ -1,17 +1,27 @@
 package com.onlineexam.repository;
 
+import com.onlineexam.dto.ResultDto;
 import com.onlineexam.entity.Exam;
 import com.onlineexam.entity.Result;
 import com.onlineexam.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ResultRepository extends JpaRepository<Result, Long> {
@@ -26,9 +36,70 @@ public interface ResultRepository extends JpaRepository<Result, Long> {
     
     Optional<Result> findByExamIdAndStudentId(Long examId, Long studentId);
     
+    Optional<Result> findBySubmissionTokenAndStudentId(String submissionToken, Long studentId);
+    
     @Query("SELECT r FROM Result r WHERE r.student.id = :studentId AND r.exam.id = :examId")
     Optional<Result> findExistingResult(@Param("studentId") Long studentId, @Param("examId") Long examId);
     
+    // Result rows with exam title, student name and grade resolved in a single query
+    String RESULT_DTO_SELECT = "SELECT new com.onlineexam.dto.ResultDto(r.id, e.id, e.title, s.id, s.name, " +
+            "r.score, r.totalQuestions, r.correctAnswers, r.submittedAt, " +
+            "CASE WHEN r.score >= 90 THEN 'A' WHEN r.score >= 80 THEN 'B' WHEN r.score >= 70 THEN 'C' " +
+            "WHEN r.score >= 60 THEN 'D' ELSE 'F' END) " +
+            "FROM Result r JOIN r.exam e JOIN r.student s ";
+    
+    @Query(RESULT_DTO_SELECT + "WHERE r.id = :resultId")
+    Optional<ResultDto> findResultDtoById(@Param("resultId") Long resultId);
+    
+    @Query(RESULT_DTO_SELECT + "WHERE r.submissionToken = :submissionToken AND s.id = :studentId")
+    Optional<ResultDto> findResultDtoBySubmissionToken(@Param("submissionToken") String submissionToken,
+                                                       @Param("studentId") Long studentId);
+    
+    @Query(RESULT_DTO_SELECT + "WHERE s.id = :studentId")
+    List<ResultDto> findResultDtosByStudentId(@Param("studentId") Long studentId);
+    
+    @Query(value = RESULT_DTO_SELECT + "WHERE s.id = :studentId",
+           countQuery = "SELECT COUNT(r) FROM Result r WHERE r.student.id = :studentId")
+    Page<ResultDto> findResultDtosByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+    
+    @Query(RESULT_DTO_SELECT + "WHERE e.id = :examId")
+    List<ResultDto> findResultDtosByExamId(@Param("examId") Long examId);
+    
+    /**
+     * Forward-only cursor over an exam's results; must be consumed and closed inside a transaction.
+     * A fetch size of Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering them.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(RESULT_DTO_SELECT + "WHERE e.id = :examId ORDER BY r.id")
+    Stream<ResultDto> streamResultDtosByExamId(@Param("examId") Long examId);
+    
+    @Query(value = RESULT_DTO_SELECT,
+           countQuery = "SELECT COUNT(r) FROM Result r")
+    Page<ResultDto> findAllResultDtos(Pageable pageable);
+    
+    // Keyset pages ordered newest first; see KeysetCursor
+    String BEFORE_CURSOR = "(r.submittedAt < :submittedAt OR (r.submittedAt = :submittedAt AND r.id < :id)) " +
+            "ORDER BY r.submittedAt DESC, r.id DESC";
+    
+    @Query(RESULT_DTO_SELECT + "WHERE " + BEFORE_CURSOR)
+    Slice<ResultDto> findResultDtoSliceBefore(@Param("submittedAt") LocalDateTime submittedAt,
+                                              @Param("id") Long id, Pageable pageable);
+    
+    @Query(RESULT_DTO_SELECT + "WHERE s.id = :studentId AND " + BEFORE_CURSOR)
+    Slice<ResultDto> findResultDtoSliceByStudentIdBefore(@Param("studentId") Long studentId,
+                                                         @Param("submittedAt") LocalDateTime submittedAt,
+                                                         @Param("id") Long id, Pageable pageable);
+    
+    @Query(RESULT_DTO_SELECT + "WHERE e.id = :examId AND " + BEFORE_CURSOR)
+    Slice<ResultDto> findResultDtoSliceByExamIdBefore(@Param("examId") Long examId,
+                                                      @Param("submittedAt") LocalDateTime submittedAt,
+                                                      @Param("id") Long id, Pageable pageable);
+    
+    // (examId, score) of every result of the student, locked until the caller's transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r.exam.id, r.score FROM Result r WHERE r.student.id = :studentId")
+    List<Object[]> findExamScoresByStudentIdForUpdate(@Param("studentId") Long studentId);
+    
     @Query("SELECT AVG(r.score) FROM Result r WHERE r.exam.id = :examId")
     Double getAverageScoreByExamId(@Param("examId") Long examId);
 }
@@ -0,0 +1,13 @@
+package com.onlineexam.repository;
+
+import com.onlineexam.entity.SubmissionRejection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SubmissionRejectionRepository extends JpaRepository<SubmissionRejection, String> {
+    
+    Optional<SubmissionRejection> findBySubmissionTokenAndStudentId(String submissionToken, Long studentId);
+}
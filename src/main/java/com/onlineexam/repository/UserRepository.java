@@ -3,9 +3,13 @@ package com.onlineexam.repository;
 import com.onlineexam.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -18,6 +22,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findByRole(User.Role role, Pageable pageable);
     
     Page<User> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+    
+    // Keyset page ordered newest first; see KeysetCursor
+    @Query("SELECT u FROM User u WHERE u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    Slice<User> findSliceBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
 
 
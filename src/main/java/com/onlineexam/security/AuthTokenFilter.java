@@ -1,12 +1,14 @@
 package com.onlineexam.security;
 
-import com.onlineexam.service.UserDetailsServiceImpl;
+import com.onlineexam.service.PrincipalCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,17 +25,21 @@ import java.io.IOException;
 public class AuthTokenFilter extends OncePerRequestFilter {
     
     private final JwtUtils jwtUtils;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    
+    // When enabled, authentication is built from token claims with no user lookup
+    @Value("${jwt.stateless-auth:false}")
+    private boolean statelessAuth;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = jwt != null ? jwtUtils.getVerifiedClaims(jwt) : null;
+            if (claims != null && !isRevoked(claims)) {
+                UserDetails userDetails = resolvePrincipal(claims);
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -47,6 +53,22 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    private boolean isRevoked(Claims claims) {
+        Integer tokenVersion = claims.get(JwtUtils.TOKEN_VERSION_CLAIM, Integer.class);
+        return tokenRevocationRegistry.isRevoked(claims.get(JwtUtils.USER_ID_CLAIM, Long.class),
+                tokenVersion != null ? tokenVersion : 0);
+    }
+    
+    private UserDetails resolvePrincipal(Claims claims) {
+        if (statelessAuth) {
+            UserDetails principal = jwtUtils.getPrincipalFromClaims(claims);
+            if (principal != null) {
+                return principal;
+            }
+        }
+        return principalCache.getPrincipal(claims.getSubject());
+    }
+    
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         
@@ -0,0 +1,70 @@
+package com.onlineexam.security;
+
+import com.onlineexam.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable snapshot of an authenticated user.
+ * Holds only what authorization needs, so it can be cached across requests
+ * without keeping a managed entity or the password hash around.
+ */
+@Getter
+public class AuthenticatedPrincipal implements UserDetails {
+    
+    private final Long id;
+    private final String email;
+    private final User.Role role;
+    private final List<GrantedAuthority> authorities;
+    
+    public AuthenticatedPrincipal(Long id, String email, User.Role role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+    
+    public static AuthenticatedPrincipal from(User user) {
+        return new AuthenticatedPrincipal(user.getId(), user.getEmail(), user.getRole());
+    }
+    
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+    
+    @Override
+    public String getPassword() {
+        return null;
+    }
+    
+    @Override
+    public String getUsername() {
+        return email;
+    }
+    
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+    
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+    
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package com.onlineexam.security;
+
+import com.onlineexam.entity.User;
+import com.onlineexam.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves the authenticated {@link User} entity at most once per persistence context
+ * within a request. With open-in-view (the default) that is once per request; otherwise
+ * an entity left detached by an earlier transaction is re-read by id rather than reused,
+ * so callers never touch lazy state of a stale entity.
+ */
+@Slf4j
+@Component
+@RequestScope
+public class CurrentUserContext {
+    
+    private static final LongAdder TOTAL_REQUESTS = new LongAdder();
+    private static final LongAdder TOTAL_RESOLUTIONS = new LongAdder();
+    private static final LongAdder TOTAL_LOOKUPS = new LongAdder();
+    
+    private final UserRepository userRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private User user;
+    private int resolutions;
+    private int lookups;
+    
+    public CurrentUserContext(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+    
+    public User getUser(Authentication authentication) {
+        resolutions++;
+        if (user != null && entityManager.contains(user)) {
+            return user;
+        }
+        
+        lookups++;
+        Long userId = user != null ? user.getId()
+                : authentication.getPrincipal() instanceof AuthenticatedPrincipal principal ? principal.getId() : null;
+        String email = authentication.getName();
+        user = (userId != null ? userRepository.findById(userId) : userRepository.findByEmail(email))
+                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
+        return user;
+    }
+    
+    /**
+     * @return lookup counters summed over all completed requests that resolved the current user
+     */
+    public static Map<String, Object> stats() {
+        long requests = TOTAL_REQUESTS.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", "currentUser");
+        stats.put("requests", requests);
+        stats.put("resolutions", TOTAL_RESOLUTIONS.sum());
+        stats.put("lookups", TOTAL_LOOKUPS.sum());
+        stats.put("lookupsPerRequest", requests == 0 ? 0.0 : (double) TOTAL_LOOKUPS.sum() / requests);
+        return stats;
+    }
+    
+    @PreDestroy
+    void recordRequest() {
+        if (resolutions == 0) {
+            return;
+        }
+        TOTAL_REQUESTS.increment();
+        TOTAL_RESOLUTIONS.add(resolutions);
+        TOTAL_LOOKUPS.add(lookups);
+        log.debug("Current user resolved {} times with {} database lookups", resolutions, lookups);
+    }
+}
@@ -1,7 +1,11 @@
 package com.onlineexam.security;
 
+import com.onlineexam.entity.User;
+import com.onlineexam.util.BoundedCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -10,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Map;
 
 @Component
 @Slf4j
@@ -21,37 +26,113 @@ public class JwtUtils {
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
     
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+    
+    @Value("${jwt.validation-cache.max-size:10000}")
+    private int validationCacheSize;
+    
+    // Derived once on first use instead of per call
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+    private BoundedCache<String, Claims> verifiedTokens;
+    
+    @PostConstruct
+    void initValidationCache() {
+        verifiedTokens = new BoundedCache<>("verifiedTokens", validationCacheSize, 0);
+    }
+    
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+    
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
     }
     
     public String generateJwtToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
+                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs));
+        
+        // Identity and role claims let the auth filter skip the user lookup
+        if (userPrincipal instanceof User user) {
+            builder.claim(USER_ID_CLAIM, user.getId())
+                    .claim(ROLE_CLAIM, user.getRole().name())
+                    .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        }
+        
+        return builder
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
     
+    /**
+     * Verify a token once and return its claims.
+     * Recently verified tokens are served from a bounded cache until they expire,
+     * so repeated requests with the same bearer token skip signature verification.
+     * @return the verified claims, or null if the token is invalid or expired
+     */
+    public Claims getVerifiedClaims(String token) {
+        Claims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Claims claims = parseClaims(token);
+        if (claims != null && claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims, claims.getExpiration().getTime());
+        }
+        return claims;
+    }
+    
+    public Map<String, Object> validationCacheStats() {
+        return verifiedTokens.stats();
+    }
+    
+    /**
+     * Build a principal from the identity and role claims of a verified token
+     * @return the principal, or null for tokens issued without those claims
+     */
+    public AuthenticatedPrincipal getPrincipalFromClaims(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new AuthenticatedPrincipal(userId, claims.getSubject(), User.Role.valueOf(role));
+    }
+    
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        Claims claims = getVerifiedClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
     
     public boolean validateJwtToken(String authToken) {
+        return getVerifiedClaims(authToken) != null;
+    }
+    
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            return getParser()
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (SecurityException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -64,8 +145,6 @@ public class JwtUtils {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
         
-        return false;
+        return null;
     }
 }
-
-
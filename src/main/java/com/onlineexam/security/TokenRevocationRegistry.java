@@ -0,0 +1,59 @@
+package com.onlineexam.security;
+
+import com.onlineexam.entity.User;
+import com.onlineexam.repository.UserRepository;
+import com.onlineexam.util.BoundedCache;
+import com.onlineexam.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token revocation through a per-user token version stored on the users row.
+ * Tokens carry the version they were issued with; bumping the version rejects
+ * every earlier token on every node, so role changes and deletes take effect even
+ * when authentication is built purely from token claims. Current versions are
+ * cached briefly, which bounds how long another node can accept a revoked token.
+ */
+@Component
+public class TokenRevocationRegistry {
+    
+    // Cached for users that no longer exist, so all of their tokens are rejected
+    private static final int DELETED = -1;
+    
+    private final UserRepository userRepository;
+    private final BoundedCache<Long, Integer> tokenVersions;
+    
+    public TokenRevocationRegistry(UserRepository userRepository,
+                                   @Value("${jwt.token-version-cache.max-size:10000}") int maxSize,
+                                   @Value("${jwt.token-version-cache.ttl-ms:30000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.tokenVersions = new BoundedCache<>("tokenVersions", maxSize, ttlMillis);
+    }
+    
+    /**
+     * Revoke all tokens issued to the user up to now. The new version is written
+     * with the user entity, so the caller must save it in the current transaction.
+     */
+    public void revokeTokensOf(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        Long userId = user.getId();
+        tokenVersions.invalidate(userId);
+        TransactionHooks.afterCommit(() -> tokenVersions.invalidate(userId));
+    }
+    
+    /**
+     * @param userId       the token's user id claim, or null for tokens issued without one
+     * @param tokenVersion the token's version claim
+     */
+    public boolean isRevoked(Long userId, int tokenVersion) {
+        if (userId == null) {
+            return false;
+        }
+        int currentVersion = tokenVersions.get(userId, this::loadTokenVersion);
+        return currentVersion == DELETED || tokenVersion < currentVersion;
+    }
+    
+    private Integer loadTokenVersion(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(DELETED);
+    }
+}
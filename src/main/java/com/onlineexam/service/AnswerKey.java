@@ -0,0 +1,120 @@
+package com.onlineexam.service;
+
+/**
+ * Compact, immutable answer key for a single exam.
+ * Maps question ids to the index of the correct option (and the number of
+ * options) using an open-addressing table backed by primitive arrays, so
+ * lookups are O(1) and never box.
+ */
+public final class AnswerKey {
+
+    public static final int NO_QUESTION = Integer.MIN_VALUE;
+
+    private static final long EMPTY = 0L; // JPA identity ids start at 1
+
+    private final long[] questionIds;
+    private final int[] correctAnswers;
+    private final int[] optionCounts;
+    private final int mask;
+    private final int size;
+    private final int maxOptionCount;
+
+    private AnswerKey(long[] questionIds, int[] correctAnswers, int[] optionCounts, int size, int maxOptionCount) {
+        this.questionIds = questionIds;
+        this.correctAnswers = correctAnswers;
+        this.optionCounts = optionCounts;
+        this.mask = questionIds.length - 1;
+        this.size = size;
+        this.maxOptionCount = maxOptionCount;
+    }
+
+    public static AnswerKey of(long[] ids, int[] answers) {
+        return of(ids, answers, new int[ids.length]);
+    }
+    
+    public static AnswerKey of(long[] ids, int[] answers, int[] optionCounts) {
+        if (ids.length != answers.length || ids.length != optionCounts.length) {
+            throw new IllegalArgumentException("Question ids, answers and option counts must have the same length");
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(2, ids.length * 2 - 1)) << 1;
+        long[] slots = new long[capacity];
+        int[] values = new int[capacity];
+        int[] counts = new int[capacity];
+        int mask = capacity - 1;
+        int size = 0;
+        int maxOptionCount = 0;
+
+        for (int i = 0; i < ids.length; i++) {
+            long id = ids[i];
+            if (id == EMPTY) {
+                throw new IllegalArgumentException("Question id must not be " + EMPTY);
+            }
+            int slot = slotOf(id, mask);
+            while (slots[slot] != EMPTY && slots[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            if (slots[slot] == EMPTY) {
+                size++;
+            }
+            slots[slot] = id;
+            values[slot] = answers[i];
+            counts[slot] = optionCounts[i];
+            maxOptionCount = Math.max(maxOptionCount, optionCounts[i]);
+        }
+
+        return new AnswerKey(slots, values, counts, size, maxOptionCount);
+    }
+
+    /**
+     * @return index of the correct option, or {@link #NO_QUESTION} if the question is not part of this key
+     */
+    public int correctAnswerOf(long questionId) {
+        int slot = find(questionId);
+        return slot < 0 ? NO_QUESTION : correctAnswers[slot];
+    }
+    
+    /**
+     * @return number of options of the question, or 0 if unknown or not part of this key
+     */
+    public int optionCountOf(long questionId) {
+        int slot = find(questionId);
+        return slot < 0 ? 0 : optionCounts[slot];
+    }
+
+    public boolean contains(long questionId) {
+        return correctAnswerOf(questionId) != NO_QUESTION;
+    }
+
+    /**
+     * @return the largest option count of any question in this key
+     */
+    public int maxOptionCount() {
+        return maxOptionCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int find(long questionId) {
+        int slot = slotOf(questionId, mask);
+        long current;
+        while ((current = questionIds[slot]) != EMPTY) {
+            if (current == questionId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+    
+    private static int slotOf(long id, int mask) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
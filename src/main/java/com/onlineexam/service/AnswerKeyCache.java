@@ -0,0 +1,63 @@
+package com.onlineexam.service;
+
+import com.onlineexam.repository.QuestionRepository;
+import com.onlineexam.util.BoundedCache;
+import com.onlineexam.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-exam cache of compiled answer keys.
+ * Only (questionId, correctAnswer, optionCount) rows are loaded, so grading never hydrates
+ * question entities or their option collections. Question edits must call
+ * {@link #invalidate(Long)} for the owning exam; the TTL bounds how long a key loaded
+ * from a snapshot older than such an edit can be served.
+ */
+@Component
+public class AnswerKeyCache {
+
+    private final QuestionRepository questionRepository;
+    private final BoundedCache<Long, AnswerKey> cache;
+
+    public AnswerKeyCache(QuestionRepository questionRepository,
+                          @Value("${exam.answer-key-cache.max-size:1000}") int maxSize,
+                          @Value("${exam.answer-key-cache.ttl-ms:300000}") long ttlMillis) {
+        this.questionRepository = questionRepository;
+        this.cache = new BoundedCache<>("answerKeys", maxSize, ttlMillis);
+    }
+
+    public AnswerKey getAnswerKey(Long examId) {
+        return cache.get(examId, this::loadAnswerKey);
+    }
+
+    /**
+     * Evict the exam's key now and again once the current transaction commits
+     */
+    public void invalidate(Long examId) {
+        cache.invalidate(examId);
+        TransactionHooks.afterCommit(() -> cache.invalidate(examId));
+    }
+
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    private AnswerKey loadAnswerKey(Long examId) {
+        List<Object[]> rows = questionRepository.findAnswerKeyByExamId(examId);
+
+        long[] questionIds = new long[rows.size()];
+        int[] correctAnswers = new int[rows.size()];
+        int[] optionCounts = new int[rows.size()];
+        for (int i = 0; i < questionIds.length; i++) {
+            Object[] row = rows.get(i);
+            questionIds[i] = (Long) row[0];
+            correctAnswers[i] = (Integer) row[1];
+            optionCounts[i] = ((Number) row[2]).intValue();
+        }
+
+        return AnswerKey.of(questionIds, correctAnswers, optionCounts);
+    }
+}
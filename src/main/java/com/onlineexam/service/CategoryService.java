@@ -2,9 +2,9 @@ package com.onlineexam.service;
 
 import com.onlineexam.dto.CategoryDto;
 import com.onlineexam.entity.Category;
+import com.onlineexam.mapper.CategoryMapper;
 import com.onlineexam.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,16 +16,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryService {
     
     private final CategoryRepository categoryRepository;
-    private final ModelMapper modelMapper;
+    private final CategoryMapper categoryMapper;
+    private final ExamCatalogCache examCatalogCache;
     
     public CategoryDto createCategory(CategoryDto categoryDto) {
         if (categoryRepository.existsByName(categoryDto.getName())) {
             throw new RuntimeException("Category with name " + categoryDto.getName() + " already exists");
         }
         
-        Category category = modelMapper.map(categoryDto, Category.class);
+        Category category = categoryMapper.toEntity(categoryDto);
         Category savedCategory = categoryRepository.save(category);
-        return modelMapper.map(savedCategory, CategoryDto.class);
+        return categoryMapper.toDto(savedCategory);
     }
     
     public CategoryDto updateCategory(Long categoryId, CategoryDto categoryDto) {
@@ -41,18 +42,19 @@ public class CategoryService {
         category.setDescription(categoryDto.getDescription());
         
         Category updatedCategory = categoryRepository.save(category);
-        return modelMapper.map(updatedCategory, CategoryDto.class);
+        examCatalogCache.invalidate();
+        return categoryMapper.toDto(updatedCategory);
     }
     
     public CategoryDto getCategoryById(Long categoryId) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("Category not found with id: " + categoryId));
-        return modelMapper.map(category, CategoryDto.class);
+        return categoryMapper.toDto(category);
     }
     
     public Page<CategoryDto> getAllCategories(Pageable pageable) {
         return categoryRepository.findAll(pageable)
-                .map(category -> modelMapper.map(category, CategoryDto.class));
+                .map(categoryMapper::toDto);
     }
     
     public void deleteCategory(Long categoryId) {
@@ -60,6 +62,7 @@ public class CategoryService {
             throw new RuntimeException("Category not found with id: " + categoryId);
         }
         categoryRepository.deleteById(categoryId);
+        examCatalogCache.invalidate();
     }
 }
 
@@ -0,0 +1,68 @@
+package com.onlineexam.service;
+
+import com.onlineexam.dto.ExamDto;
+import com.onlineexam.util.BoundedCache;
+import com.onlineexam.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of rendered exam catalog pages, keyed by category filter, page and sort.
+ * The catalog changes only when exams, their questions, categories or creator names
+ * are edited; those writes must call {@link #invalidate()}, which bumps the catalog
+ * version and drops every page. The TTL only bounds staleness for missed writes.
+ */
+@Component
+public class ExamCatalogCache {
+    
+    private final BoundedCache<String, Page<ExamDto>> cache;
+    private final AtomicLong version = new AtomicLong();
+    
+    public ExamCatalogCache(@Value("${exam.catalog-cache.max-size:500}") int maxSize,
+                            @Value("${exam.catalog-cache.ttl-ms:300000}") long ttlMillis) {
+        this.cache = new BoundedCache<>("examCatalog", maxSize, ttlMillis);
+    }
+    
+    /**
+     * Get a catalog page, rendering it on a miss
+     * @param categoryId category filter, or null for all exams
+     */
+    public Page<ExamDto> getPage(Long categoryId, Pageable pageable, Supplier<Page<ExamDto>> loader) {
+        return cache.get(keyOf(categoryId, pageable), key -> loader.get());
+    }
+    
+    /**
+     * Drop every page now and again once the current transaction commits
+     */
+    public void invalidate() {
+        clear();
+        TransactionHooks.afterCommit(this::clear);
+    }
+    
+    public long version() {
+        return version.get();
+    }
+    
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = cache.stats();
+        stats.put("version", version.get());
+        return stats;
+    }
+    
+    private void clear() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    private String keyOf(Long categoryId, Pageable pageable) {
+        // Including the version keeps a page rendered before a change from being served after it
+        return version.get() + "|" + categoryId + "|" + pageable.getPageNumber() + "|"
+                + pageable.getPageSize() + "|" + pageable.getSort();
+    }
+}
@@ -0,0 +1,128 @@
+package com.onlineexam.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlineexam.dto.ApiResponse;
+import com.onlineexam.dto.ExamQuestionDto;
+import com.onlineexam.entity.Question;
+import com.onlineexam.repository.ExamRepository;
+import com.onlineexam.repository.QuestionRepository;
+import com.onlineexam.util.BoundedCache;
+import com.onlineexam.util.TransactionHooks;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Per-exam cache of the answer-free exam paper, stored as ready-to-send JSON bytes
+ * and their gzip encoding. Every student gets the same canonical question order, so
+ * the bytes are built once per exam version and served without touching JPA or Jackson.
+ * Question edits must call {@link #invalidate(Long)} for the owning exam.
+ */
+@Component
+public class ExamPaperCache {
+    
+    private final QuestionRepository questionRepository;
+    private final ExamRepository examRepository;
+    private final ObjectMapper objectMapper;
+    private final BoundedCache<Long, ExamPaper> cache;
+    
+    public ExamPaperCache(QuestionRepository questionRepository, ExamRepository examRepository,
+                          ObjectMapper objectMapper,
+                          @Value("${exam.paper-cache.max-size:200}") int maxSize) {
+        this.questionRepository = questionRepository;
+        this.examRepository = examRepository;
+        this.objectMapper = objectMapper;
+        this.cache = new BoundedCache<>("examPapers", maxSize, 0);
+    }
+    
+    /**
+     * @throws NoSuchElementException if the exam does not exist
+     */
+    public ExamPaper getPaper(Long examId) {
+        return cache.get(examId, this::buildPaper);
+    }
+    
+    /**
+     * Evict the exam's paper now and again once the current transaction commits
+     */
+    public void invalidate(Long examId) {
+        cache.invalidate(examId);
+        TransactionHooks.afterCommit(() -> cache.invalidate(examId));
+    }
+    
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+    
+    private ExamPaper buildPaper(Long examId) {
+        if (!examRepository.existsById(examId)) {
+            throw new NoSuchElementException("Exam not found with id: " + examId);
+        }
+        
+        List<Question> questions = questionRepository.findWithOptionsByExamIdOrderById(examId);
+        List<ExamQuestionDto> paper = new ArrayList<>(questions.size());
+        for (Question question : questions) {
+            paper.add(new ExamQuestionDto(question.getId(), question.getQuestionText(),
+                    new ArrayList<>(question.getOptions())));
+        }
+        
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(paper));
+            return new ExamPaper(json, gzip(json), contentHash(json));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize exam paper: " + e.getMessage(), e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    private static String contentHash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * Encoded exam paper. The strong ETags derive from the JSON content, so they stay
+     * stable across restarts and instances; each encoding gets its own tag.
+     */
+    @Getter
+    public static class ExamPaper {
+        
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+        
+        ExamPaper(byte[] json, byte[] gzip, String contentHash) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = "\"" + contentHash + "\"";
+            this.gzipEtag = "\"" + contentHash + "-gzip\"";
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.onlineexam.service;
+
+import com.onlineexam.dto.ExamQuestionDto;
+import com.onlineexam.entity.Question;
+import com.onlineexam.entity.User;
+import com.onlineexam.repository.ExamRepository;
+import com.onlineexam.repository.QuestionRepository;
+import com.onlineexam.util.ExamPermutation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves each student their own question and option order.
+ * Orders are derived from (examId, studentId, exam.shuffle.seed) on every call,
+ * so no per-student state is stored and submissions can be graded by remapping
+ * the displayed option indices.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExamPaperService {
+    
+    private final QuestionRepository questionRepository;
+    private final ExamRepository examRepository;
+    private final UserService userService;
+    private final long shuffleSeed;
+    
+    public ExamPaperService(QuestionRepository questionRepository, ExamRepository examRepository,
+                            UserService userService, @Value("${exam.shuffle.seed:0}") long shuffleSeed) {
+        this.questionRepository = questionRepository;
+        this.examRepository = examRepository;
+        this.userService = userService;
+        this.shuffleSeed = shuffleSeed;
+    }
+    
+    public ExamPermutation permutationFor(Long examId, Long studentId) {
+        return ExamPermutation.of(examId, studentId, shuffleSeed);
+    }
+    
+    public List<ExamQuestionDto> getShuffledQuestions(Long examId) {
+        if (!examRepository.existsById(examId)) {
+            throw new RuntimeException("Exam not found with id: " + examId);
+        }
+        
+        User currentUser = userService.getCurrentUser();
+        ExamPermutation permutation = permutationFor(examId, currentUser.getId());
+        
+        List<Question> questions = questionRepository.findWithOptionsByExamIdOrderById(examId);
+        int[] questionOrder = permutation.questionOrder(questions.size());
+        
+        List<ExamQuestionDto> paper = new ArrayList<>(questions.size());
+        for (int position : questionOrder) {
+            Question question = questions.get(position);
+            List<String> options = question.getOptions();
+            int[] optionOrder = permutation.optionOrder(question.getId(), options.size());
+            
+            List<String> shownOptions = new ArrayList<>(options.size());
+            for (int option : optionOrder) {
+                shownOptions.add(options.get(option));
+            }
+            paper.add(new ExamQuestionDto(question.getId(), question.getQuestionText(), shownOptions));
+        }
+        return paper;
+    }
+}
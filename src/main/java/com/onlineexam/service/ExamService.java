@@ -1,13 +1,19 @@
 package com.onlineexam.service;
 
+import com.onlineexam.dto.CursorPage;
 import com.onlineexam.dto.ExamDto;
+import com.onlineexam.dto.QuestionDto;
 import com.onlineexam.entity.Category;
 import com.onlineexam.entity.Exam;
 import com.onlineexam.entity.User;
+import com.onlineexam.mapper.ExamMapper;
+import com.onlineexam.mapper.QuestionMapper;
 import com.onlineexam.repository.CategoryRepository;
 import com.onlineexam.repository.ExamRepository;
+import com.onlineexam.repository.ExamStatsRepository;
+import com.onlineexam.repository.QuestionRepository;
+import com.onlineexam.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -15,6 +21,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -23,7 +32,13 @@ public class ExamService {
     private final ExamRepository examRepository;
     private final CategoryRepository categoryRepository;
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final AnswerKeyCache answerKeyCache;
+    private final ExamCatalogCache examCatalogCache;
+    private final ExamPaperCache examPaperCache;
+    private final ExamStatsRepository examStatsRepository;
+    private final QuestionRepository questionRepository;
+    private final ExamMapper examMapper;
+    private final QuestionMapper questionMapper;
     
     public ExamDto createExam(ExamDto examDto) {
         Category category = categoryRepository.findById(examDto.getCategoryId())
@@ -38,7 +53,8 @@ public class ExamService {
         exam.setCreatedBy(currentUser);
         
         Exam savedExam = examRepository.save(exam);
-        return modelMapper.map(savedExam, ExamDto.class);
+        examCatalogCache.invalidate();
+        return examMapper.toSummaryDto(savedExam, 0);
     }
     
     public ExamDto updateExam(Long examId, ExamDto examDto) {
@@ -61,29 +77,52 @@ public class ExamService {
         exam.setCategory(category);
         
         Exam updatedExam = examRepository.save(exam);
-        return modelMapper.map(updatedExam, ExamDto.class);
+        examCatalogCache.invalidate();
+        return examMapper.toSummaryDto(updatedExam, examRepository.countQuestionsByExamId(examId));
     }
     
-    public ExamDto getExamById(Long examId) {
-        Exam exam = examRepository.findById(examId)
+    /**
+     * Get an exam summary, optionally with its questions and their options
+     */
+    @Transactional(readOnly = true)
+    public ExamDto getExamById(Long examId, boolean includeQuestions) {
+        ExamDto exam = examRepository.findExamSummaryById(examId)
                 .orElseThrow(() -> new RuntimeException("Exam not found with id: " + examId));
-        return modelMapper.map(exam, ExamDto.class);
+        if (includeQuestions) {
+            List<QuestionDto> questions = questionRepository.findWithOptionsByExamIdOrderById(examId).stream()
+                    .map(questionMapper::toDto)
+                    .collect(Collectors.toList());
+            exam.setQuestions(questions);
+        }
+        return exam;
     }
     
     public Page<ExamDto> getExamsByTeacher(Pageable pageable) {
         User currentUser = userService.getCurrentUser();
-        return examRepository.findByCreatedBy(currentUser, pageable)
-                .map(exam -> modelMapper.map(exam, ExamDto.class));
+        return examRepository.findExamSummariesByCreatedById(currentUser.getId(), pageable);
+    }
+    
+    public CursorPage<ExamDto> getExamsByTeacher(String cursor, int size) {
+        User currentUser = userService.getCurrentUser();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(examRepository.findExamSummarySliceByCreatedByBefore(currentUser.getId(),
+                after.getTimestamp(), after.getId(), KeysetCursor.pageRequest(size)),
+                ExamDto::getCreatedAt, ExamDto::getId);
     }
     
     public Page<ExamDto> getAllExams(Pageable pageable) {
-        return examRepository.findAll(pageable)
-                .map(exam -> modelMapper.map(exam, ExamDto.class));
+        return examCatalogCache.getPage(null, pageable, () -> examRepository.findExamSummaries(pageable));
+    }
+    
+    public CursorPage<ExamDto> getAllExams(String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(examRepository.findExamSummarySliceBefore(after.getTimestamp(), after.getId(),
+                KeysetCursor.pageRequest(size)), ExamDto::getCreatedAt, ExamDto::getId);
     }
     
     public Page<ExamDto> getExamsByCategory(Long categoryId, Pageable pageable) {
-        return examRepository.findByCategoryId(categoryId, pageable)
-                .map(exam -> modelMapper.map(exam, ExamDto.class));
+        return examCatalogCache.getPage(categoryId, pageable,
+                () -> examRepository.findExamSummariesByCategoryId(categoryId, pageable));
     }
     
     public void deleteExam(Long examId) {
@@ -98,7 +137,11 @@ public class ExamService {
             throw new RuntimeException("You don't have permission to delete this exam");
         }
         
+        examStatsRepository.deleteById(examId);
         examRepository.deleteById(examId);
+        answerKeyCache.invalidate(examId);
+        examPaperCache.invalidate(examId);
+        examCatalogCache.invalidate();
     }
 }
 
@@ -0,0 +1,67 @@
+package com.onlineexam.service;
+
+import com.onlineexam.model.ExamStatsDelta;
+import com.onlineexam.repository.ResultRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Maintains the per-exam exam_stats aggregate.
+ * Writers must call {@link #recordScore} or {@link #recordScores} inside the
+ * transaction that inserts the results, and {@link #removeResultsOfStudent} inside
+ * the one that deletes a user, so the aggregate never drifts from the results table.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExamStatsRecorder {
+    
+    private final ResultRepository resultRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordScore(Long examId, int score) {
+        applyDelta(new ExamStatsDelta(examId).add(score));
+    }
+    
+    /**
+     * Fold a batch of results into one upsert per exam
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void recordScores(Collection<T> results, Function<T, Long> examIdOf, ToIntFunction<T> scoreOf) {
+        Map<Long, ExamStatsDelta> deltas = new LinkedHashMap<>();
+        for (T result : results) {
+            deltas.computeIfAbsent(examIdOf.apply(result), ExamStatsDelta::new)
+                    .add(scoreOf.applyAsInt(result));
+        }
+        deltas.values().forEach(this::applyDelta);
+    }
+    
+    /**
+     * Subtract the student's results from their exams' aggregates.
+     * Must run before the user row is deleted, since the results go with it by cascade.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeResultsOfStudent(Long studentId) {
+        List<Object[]> examScores = resultRepository.findExamScoresByStudentIdForUpdate(studentId);
+        Map<Long, ExamStatsDelta> deltas = new LinkedHashMap<>();
+        for (Object[] examScore : examScores) {
+            deltas.computeIfAbsent((Long) examScore[0], ExamStatsDelta::new)
+                    .remove((Integer) examScore[1]);
+        }
+        deltas.values().forEach(this::applyDelta);
+    }
+    
+    private void applyDelta(ExamStatsDelta delta) {
+        jdbcTemplate.update(ExamStatsDelta.UPSERT_SQL, delta::bind);
+    }
+}
@@ -0,0 +1,63 @@
+package com.onlineexam.service;
+
+import com.onlineexam.dto.ExamStatsDto;
+import com.onlineexam.entity.Exam;
+import com.onlineexam.entity.ExamStats;
+import com.onlineexam.entity.User;
+import com.onlineexam.repository.ExamRepository;
+import com.onlineexam.repository.ExamStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the per-exam {@link ExamStats} aggregate maintained by {@link ExamStatsRecorder}
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExamStatsService {
+    
+    private final ExamStatsRepository examStatsRepository;
+    private final ExamRepository examRepository;
+    private final UserService userService;
+    
+    public ExamStatsDto getExamStats(Long examId) {
+        Exam exam = examRepository.findById(examId)
+                .orElseThrow(() -> new RuntimeException("Exam not found with id: " + examId));
+        
+        User currentUser = userService.getCurrentUser();
+        
+        // Only the exam creator or admin can view statistics
+        if (!exam.getCreatedBy().getId().equals(currentUser.getId()) && 
+            !currentUser.getRole().equals(User.Role.ADMIN)) {
+            throw new RuntimeException("You don't have permission to view statistics for this exam");
+        }
+        
+        ExamStats stats = examStatsRepository.findById(examId).orElseGet(() -> {
+            ExamStats empty = new ExamStats();
+            empty.setExamId(examId);
+            return empty;
+        });
+        return toDto(stats, exam.getTitle());
+    }
+    
+    private ExamStatsDto toDto(ExamStats stats, String examTitle) {
+        long count = stats.getResultCount();
+        double average = count == 0 ? 0.0 : (double) stats.getScoreSum() / count;
+        double variance = count == 0 ? 0.0 : (double) stats.getScoreSquareSum() / count - average * average;
+        
+        ExamStatsDto dto = new ExamStatsDto();
+        dto.setExamId(stats.getExamId());
+        dto.setExamTitle(examTitle);
+        dto.setResultCount(count);
+        dto.setAverageScore(average);
+        dto.setStandardDeviation(Math.sqrt(Math.max(variance, 0.0)));
+        dto.setPassCount(stats.getPassCount());
+        dto.setFailCount(stats.getFailCount());
+        dto.setPassRate(count == 0 ? 0.0 : (double) stats.getPassCount() / count * 100);
+        dto.setHistogram(stats.getHistogram());
+        dto.setUpdatedAt(stats.getUpdatedAt());
+        return dto;
+    }
+}
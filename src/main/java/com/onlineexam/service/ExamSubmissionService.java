@@ -3,64 +3,71 @@ package com.onlineexam.service;
 import com.onlineexam.dto.ExamSubmissionDto;
 import com.onlineexam.dto.ResultDto;
 import com.onlineexam.entity.Exam;
-import com.onlineexam.entity.Question;
 import com.onlineexam.entity.Result;
 import com.onlineexam.entity.User;
+import com.onlineexam.mapper.ResultMapper;
 import com.onlineexam.repository.ExamRepository;
-import com.onlineexam.repository.QuestionRepository;
 import com.onlineexam.repository.ResultRepository;
+import com.onlineexam.util.ExamPermutation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ExamSubmissionService {
     
+    private static final String UNIQUE_EXAM_STUDENT = "unique_exam_student";
+    private static final String UNIQUE_SUBMISSION_TOKEN = "unique_submission_token";
+    
     private final ExamRepository examRepository;
-    private final QuestionRepository questionRepository;
+    private final AnswerKeyCache answerKeyCache;
     private final ResultRepository resultRepository;
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final GradingEngine gradingEngine;
+    private final ExamStatsRecorder examStatsRecorder;
+    private final ExamPaperService examPaperService;
+    private final ResultMapper resultMapper;
+    private final TransactionTemplate transactionTemplate;
     
-    public ResultDto submitExam(ExamSubmissionDto submissionDto) {
+    /**
+     * Grade and store a submission. Duplicates are detected by the unique
+     * (exam_id, student_id) and submission_token constraints rather than a
+     * pre-check, so the happy path is a single INSERT. The insert runs in its
+     * own transaction, together with the exam statistics update, so a constraint
+     * violation rolls back cleanly and the stored result can still be read afterwards.
+     * Any other integrity violation is rethrown.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SubmissionOutcome submitExam(ExamSubmissionDto submissionDto) {
         Exam exam = examRepository.findById(submissionDto.getExamId())
                 .orElseThrow(() -> new RuntimeException("Exam not found with id: " + submissionDto.getExamId()));
         
         User currentUser = userService.getCurrentUser();
         
-        // Check if student already submitted this exam
-        if (resultRepository.findByExamIdAndStudentId(exam.getId(), currentUser.getId()).isPresent()) {
-            throw new RuntimeException("You have already submitted this exam");
-        }
-        
-        List<Question> questions = questionRepository.findByExamId(exam.getId());
+        AnswerKey answerKey = answerKeyCache.getAnswerKey(exam.getId());
         
-        if (questions.isEmpty()) {
+        if (answerKey.isEmpty()) {
             throw new RuntimeException("No questions found for this exam");
         }
         
         // Calculate score
-        int correctAnswers = 0;
-        int totalQuestions = questions.size();
-        
-        for (ExamSubmissionDto.AnswerDto answer : submissionDto.getAnswers()) {
-            Question question = questions.stream()
-                    .filter(q -> q.getId().equals(answer.getQuestionId()))
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException("Question not found with id: " + answer.getQuestionId()));
-            
-            if (question.getCorrectAnswer().equals(answer.getSelectedAnswer())) {
-                correctAnswers++;
-            }
-        }
+        int totalQuestions = answerKey.size();
+        ExamPermutation permutation = submissionDto.isShuffled()
+                ? examPaperService.permutationFor(exam.getId(), currentUser.getId()) : null;
+        int correctAnswers = gradingEngine.countCorrectAnswers(answerKey, submissionDto.getAnswers(), permutation);
         
         // Calculate percentage score
-        int score = (int) Math.round((double) correctAnswers / totalQuestions * 100);
+        int score = gradingEngine.calculateScore(correctAnswers, totalQuestions);
         
         // Create result
         Result result = new Result();
@@ -69,24 +76,47 @@ public class ExamSubmissionService {
         result.setScore(score);
         result.setTotalQuestions(totalQuestions);
         result.setCorrectAnswers(correctAnswers);
+        result.setSubmissionToken(submissionDto.getSubmissionToken());
         
-        Result savedResult = resultRepository.save(result);
-        
-        ResultDto resultDto = modelMapper.map(savedResult, ResultDto.class);
-        resultDto.setExamTitle(exam.getTitle());
-        resultDto.setStudentName(currentUser.getName());
-        resultDto.setGrade(calculateGrade(score));
-        
-        return resultDto;
+        try {
+            Result savedResult = transactionTemplate.execute(status -> {
+                Result saved = resultRepository.saveAndFlush(result);
+                examStatsRecorder.recordScore(exam.getId(), score);
+                return saved;
+            });
+            return new SubmissionOutcome(resultMapper.toDto(savedResult, exam, currentUser), false);
+        } catch (DataIntegrityViolationException e) {
+            Result existingResult;
+            if (violates(e, UNIQUE_SUBMISSION_TOKEN)) {
+                // A retry of an earlier submission; the token must belong to this student and exam
+                existingResult = resultRepository.findBySubmissionTokenAndStudentId(submissionDto.getSubmissionToken(), currentUser.getId())
+                        .filter(stored -> stored.getExam().getId().equals(exam.getId()))
+                        .orElseThrow(() -> new RuntimeException("Submission token has already been used"));
+            } else if (violates(e, UNIQUE_EXAM_STUDENT)) {
+                existingResult = resultRepository.findByExamIdAndStudentId(exam.getId(), currentUser.getId())
+                        .orElseThrow(() -> e);
+            } else {
+                throw e;
+            }
+            return new SubmissionOutcome(resultMapper.toDto(existingResult, exam, currentUser), true);
+        }
+    }
+    
+    private static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        String violated = e.getCause() instanceof ConstraintViolationException
+                ? ((ConstraintViolationException) e.getCause()).getConstraintName() : null;
+        if (violated == null) {
+            violated = e.getMostSpecificCause().getMessage();
+        }
+        // MySQL reports the key qualified by its table, e.g. "results.unique_exam_student"
+        return violated != null && violated.toLowerCase(Locale.ROOT).contains(constraintName);
     }
     
-    private String calculateGrade(int score) {
-        if (score >= 90) return "A";
-        if (score >= 80) return "B";
-        if (score >= 70) return "C";
-        if (score >= 60) return "D";
-        return "F";
+    @Data
+    @AllArgsConstructor
+    public static class SubmissionOutcome {
+        
+        private ResultDto result;
+        private boolean alreadySubmitted;
     }
 }
-
-
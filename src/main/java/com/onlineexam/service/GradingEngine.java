@@ -0,0 +1,55 @@
+package com.onlineexam.service;
+
+import com.onlineexam.dto.ExamSubmissionDto;
+import com.onlineexam.util.ExamPermutation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Grades exam submissions against a precompiled {@link AnswerKey}.
+ * A submission is graded in a single pass with one O(1) key lookup per answer;
+ * shuffled answers share one option buffer per submission.
+ */
+@Component
+public class GradingEngine {
+
+    public int countCorrectAnswers(AnswerKey answerKey, List<ExamSubmissionDto.AnswerDto> answers) {
+        return countCorrectAnswers(answerKey, answers, null);
+    }
+    
+    /**
+     * @param permutation the student's option shuffle when answers are given as displayed
+     *                    option indices, or null when they are stored option indices
+     */
+    public int countCorrectAnswers(AnswerKey answerKey, List<ExamSubmissionDto.AnswerDto> answers,
+                                   ExamPermutation permutation) {
+        int correctAnswers = 0;
+        int[] optionScratch = permutation != null ? new int[answerKey.maxOptionCount()] : null;
+
+        for (int i = 0, n = answers.size(); i < n; i++) {
+            ExamSubmissionDto.AnswerDto answer = answers.get(i);
+            int correctAnswer = answerKey.correctAnswerOf(answer.getQuestionId());
+
+            if (correctAnswer == AnswerKey.NO_QUESTION) {
+                throw new RuntimeException("Question not found with id: " + answer.getQuestionId());
+            }
+
+            Integer selectedAnswer = answer.getSelectedAnswer();
+            if (selectedAnswer != null && permutation != null) {
+                long questionId = answer.getQuestionId();
+                selectedAnswer = permutation.originalOption(questionId, answerKey.optionCountOf(questionId),
+                        selectedAnswer, optionScratch);
+            }
+            if (selectedAnswer != null && selectedAnswer == correctAnswer) {
+                correctAnswers++;
+            }
+        }
+
+        return correctAnswers;
+    }
+
+    public int calculateScore(int correctAnswers, int totalQuestions) {
+        return (int) Math.round((double) correctAnswers / totalQuestions * 100);
+    }
+}
@@ -0,0 +1,53 @@
+package com.onlineexam.service;
+
+import com.onlineexam.repository.UserRepository;
+import com.onlineexam.security.AuthenticatedPrincipal;
+import com.onlineexam.util.BoundedCache;
+import com.onlineexam.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Cache of authenticated principals keyed by email.
+ * Lets the auth filter resolve a verified token's subject without a users
+ * table lookup on every request. Entries expire after a short TTL; changes to
+ * a user's email or role must call {@link #invalidate(String)}.
+ */
+@Component
+public class PrincipalCache {
+    
+    private final UserRepository userRepository;
+    private final BoundedCache<String, AuthenticatedPrincipal> cache;
+    
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${jwt.principal-cache.ttl-ms:60000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.cache = new BoundedCache<>("principals", maxSize, ttlMillis);
+    }
+    
+    public AuthenticatedPrincipal getPrincipal(String email) {
+        return cache.get(email, this::loadPrincipal);
+    }
+    
+    /**
+     * Evict the user's principal now and again once the current transaction commits
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+        TransactionHooks.afterCommit(() -> cache.invalidate(email));
+    }
+    
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+    
+    private AuthenticatedPrincipal loadPrincipal(String email) {
+        return userRepository.findByEmail(email)
+                .map(AuthenticatedPrincipal::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
+    }
+}
@@ -0,0 +1,288 @@
+package com.onlineexam.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlineexam.dto.QuestionDto;
+import com.onlineexam.dto.QuestionImportReport;
+import com.onlineexam.entity.Exam;
+import com.onlineexam.entity.User;
+import com.onlineexam.repository.ExamRepository;
+import com.onlineexam.util.Csv;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk question import from CSV or JSON streams.
+ * Rows are parsed and validated one at a time and written in chunks with JDBC
+ * batches on questions and question_options, so memory use is bounded by the
+ * chunk size rather than the file size.
+ *
+ * CSV rows are {@code questionText,correctAnswer,option1,option2[,option3...]} with
+ * an optional header row; JSON input is either an array or a sequence (NDJSON) of
+ * question objects with questionText, options and correctAnswer.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuestionImportService {
+    
+    private static final String INSERT_QUESTION =
+            "INSERT INTO questions (question_text, correct_answer, exam_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_OPTION =
+            "INSERT INTO question_options (question_id, option_text) VALUES (?, ?)";
+    
+    private final ExamRepository examRepository;
+    private final UserService userService;
+    private final AnswerKeyCache answerKeyCache;
+    private final ExamCatalogCache examCatalogCache;
+    private final ExamPaperCache examPaperCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    
+    @Value("${exam.question-import.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${exam.question-import.max-errors:100}")
+    private int maxErrors;
+    
+    public QuestionImportReport importQuestions(Long examId, ImportFormat format, InputStream input) throws IOException {
+        Exam exam = examRepository.findById(examId)
+                .orElseThrow(() -> new RuntimeException("Exam not found with id: " + examId));
+        
+        User currentUser = userService.getCurrentUser();
+        
+        // Only the exam creator or admin can add questions
+        if (!exam.getCreatedBy().getId().equals(currentUser.getId()) && 
+            !currentUser.getRole().equals(User.Role.ADMIN)) {
+            throw new RuntimeException("You don't have permission to add questions to this exam");
+        }
+        
+        long start = System.nanoTime();
+        ImportRun run = new ImportRun(examId);
+        try {
+            if (format == ImportFormat.CSV) {
+                readCsv(input, run);
+            } else {
+                readJson(input, run);
+            }
+            run.flush();
+        } finally {
+            if (run.report.getImported() > 0) {
+                answerKeyCache.invalidate(examId);
+                examPaperCache.invalidate(examId);
+                examCatalogCache.invalidate();
+            }
+        }
+        
+        QuestionImportReport report = run.report;
+        long elapsedNanos = System.nanoTime() - start;
+        report.setElapsedMillis(elapsedNanos / 1_000_000);
+        int processed = report.getImported() + report.getFailed();
+        report.setRowsPerSecond(elapsedNanos == 0 ? 0.0 : processed * 1_000_000_000.0 / elapsedNanos);
+        log.info("Imported {} questions into exam {} ({} failed) in {} ms",
+                report.getImported(), examId, report.getFailed(), report.getElapsedMillis());
+        return report;
+    }
+    
+    private void readCsv(InputStream input, ImportRun run) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long row = 0;
+        List<String> record;
+        while ((record = Csv.readRecord(reader)) != null) {
+            row++;
+            if (row == 1 && !record.isEmpty() && "questionText".equalsIgnoreCase(record.get(0).trim())) {
+                continue;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (record.size() < 2) {
+                run.fail(row, "Expected questionText,correctAnswer,option1,option2,...");
+                continue;
+            }
+            
+            QuestionDto question = new QuestionDto();
+            question.setQuestionText(record.get(0));
+            try {
+                question.setCorrectAnswer(Integer.parseInt(record.get(1).trim()));
+            } catch (NumberFormatException e) {
+                run.fail(row, "Correct answer must be an option index: " + record.get(1));
+                continue;
+            }
+            question.setOptions(new ArrayList<>(record.subList(2, record.size())));
+            run.accept(row, question);
+        }
+    }
+    
+    private void readJson(InputStream input, ImportRun run) throws IOException {
+        // Iterates the elements of a top-level array, or a whitespace-separated sequence of objects
+        try (MappingIterator<QuestionDto> questions = objectMapper.readerFor(QuestionDto.class).readValues(input)) {
+            long row = 0;
+            while (true) {
+                row++;
+                QuestionDto question;
+                try {
+                    if (!questions.hasNextValue()) {
+                        break;
+                    }
+                    question = questions.nextValue();
+                } catch (IOException e) {
+                    // Malformed JSON cannot be resynchronised reliably; report it and stop reading
+                    run.fail(row, "Invalid JSON: " + e.getOriginalMessage());
+                    break;
+                }
+                run.accept(row, question);
+            }
+        }
+    }
+    
+    private String validate(QuestionDto question) {
+        // A JSON null element (e.g. [{...}, null]) is a bad row, not a reason to abort the import
+        if (question == null) {
+            return "Question must be an object";
+        }
+        Set<ConstraintViolation<QuestionDto>> violations = validator.validate(question);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (question.getOptions().contains(null)) {
+            return "Options must not be null";
+        }
+        if (question.getCorrectAnswer() < 0 || question.getCorrectAnswer() >= question.getOptions().size()) {
+            return "Correct answer must be between 0 and " + (question.getOptions().size() - 1);
+        }
+        return null;
+    }
+    
+    /**
+     * Insert one chunk of validated questions and their options in a single transaction
+     */
+    private void insertChunk(Long examId, List<QuestionDto> chunk) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) conn -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            long[] questionIds = new long[chunk.size()];
+            
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_QUESTION, Statement.RETURN_GENERATED_KEYS)) {
+                for (QuestionDto question : chunk) {
+                    stmt.setString(1, question.getQuestionText());
+                    stmt.setInt(2, question.getCorrectAnswer());
+                    stmt.setLong(3, examId);
+                    stmt.setTimestamp(4, now);
+                    stmt.setTimestamp(5, now);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    for (int i = 0; i < questionIds.length; i++) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Missing generated id for imported question " + i);
+                        }
+                        questionIds[i] = keys.getLong(1);
+                    }
+                }
+            }
+            
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_OPTION)) {
+                for (int i = 0; i < questionIds.length; i++) {
+                    for (String option : chunk.get(i).getOptions()) {
+                        stmt.setLong(1, questionIds[i]);
+                        stmt.setString(2, option);
+                        stmt.addBatch();
+                    }
+                }
+                stmt.executeBatch();
+            }
+            return null;
+        }));
+    }
+    
+    /**
+     * State of one import: the pending chunk and the report being built
+     */
+    private final class ImportRun {
+        
+        private final Long examId;
+        private final List<QuestionDto> chunk = new ArrayList<>();
+        private final List<Long> chunkRows = new ArrayList<>();
+        private final QuestionImportReport report = new QuestionImportReport();
+        
+        private ImportRun(Long examId) {
+            this.examId = examId;
+        }
+        
+        void accept(long row, QuestionDto question) {
+            String error = validate(question);
+            if (error != null) {
+                fail(row, error);
+                return;
+            }
+            chunk.add(question);
+            chunkRows.add(row);
+            if (chunk.size() >= batchSize) {
+                flush();
+            }
+        }
+        
+        void fail(long row, String message) {
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < maxErrors) {
+                report.getErrors().add(new QuestionImportReport.RowError(row, message));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+        
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                insertChunk(examId, chunk);
+                report.setImported(report.getImported() + chunk.size());
+            } catch (RuntimeException e) {
+                String cause = e instanceof DataAccessException dataAccessException
+                        ? dataAccessException.getMostSpecificCause().getMessage() : e.getMessage();
+                log.warn("Failed to import chunk of {} questions into exam {}: {}", chunk.size(), examId, cause);
+                for (Long row : chunkRows) {
+                    fail(row, "Database error: " + cause);
+                }
+            } finally {
+                chunk.clear();
+                chunkRows.clear();
+            }
+        }
+    }
+    
+    public enum ImportFormat {
+        CSV, JSON
+    }
+}
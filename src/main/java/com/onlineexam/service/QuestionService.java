@@ -4,10 +4,10 @@ import com.onlineexam.dto.QuestionDto;
 import com.onlineexam.entity.Exam;
 import com.onlineexam.entity.Question;
 import com.onlineexam.entity.User;
+import com.onlineexam.mapper.QuestionMapper;
 import com.onlineexam.repository.ExamRepository;
 import com.onlineexam.repository.QuestionRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +22,10 @@ public class QuestionService {
     private final QuestionRepository questionRepository;
     private final ExamRepository examRepository;
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final AnswerKeyCache answerKeyCache;
+    private final ExamCatalogCache examCatalogCache;
+    private final ExamPaperCache examPaperCache;
+    private final QuestionMapper questionMapper;
     
     public QuestionDto createQuestion(Long examId, QuestionDto questionDto) {
         Exam exam = examRepository.findById(examId)
@@ -43,7 +46,10 @@ public class QuestionService {
         question.setExam(exam);
         
         Question savedQuestion = questionRepository.save(question);
-        return modelMapper.map(savedQuestion, QuestionDto.class);
+        answerKeyCache.invalidate(examId);
+        examPaperCache.invalidate(examId);
+        examCatalogCache.invalidate();
+        return questionMapper.toDto(savedQuestion);
     }
     
     public QuestionDto updateQuestion(Long questionId, QuestionDto questionDto) {
@@ -63,19 +69,23 @@ public class QuestionService {
         question.setCorrectAnswer(questionDto.getCorrectAnswer());
         
         Question updatedQuestion = questionRepository.save(question);
-        return modelMapper.map(updatedQuestion, QuestionDto.class);
+        answerKeyCache.invalidate(question.getExam().getId());
+        examPaperCache.invalidate(question.getExam().getId());
+        examCatalogCache.invalidate();
+        return questionMapper.toDto(updatedQuestion);
     }
     
     public QuestionDto getQuestionById(Long questionId) {
         Question question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new RuntimeException("Question not found with id: " + questionId));
-        return modelMapper.map(question, QuestionDto.class);
+        return questionMapper.toDto(question);
     }
     
     public List<QuestionDto> getQuestionsByExam(Long examId) {
-        List<Question> questions = questionRepository.findByExamId(examId);
+        // Options are fetched in the same query instead of one collection load per question
+        List<Question> questions = questionRepository.findWithOptionsByExamIdOrderById(examId);
         return questions.stream()
-                .map(question -> modelMapper.map(question, QuestionDto.class))
+                .map(questionMapper::toDto)
                 .collect(Collectors.toList());
     }
     
@@ -92,6 +102,9 @@ public class QuestionService {
         }
         
         questionRepository.deleteById(questionId);
+        answerKeyCache.invalidate(question.getExam().getId());
+        examPaperCache.invalidate(question.getExam().getId());
+        examCatalogCache.invalidate();
     }
 }
 
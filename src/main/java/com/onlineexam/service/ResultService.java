@@ -1,71 +1,98 @@
 package com.onlineexam.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlineexam.dto.CursorPage;
 import com.onlineexam.dto.ResultDto;
+import com.onlineexam.dto.SubmissionReceiptDto;
 import com.onlineexam.entity.Exam;
-import com.onlineexam.entity.Result;
+import com.onlineexam.entity.SubmissionRejection;
 import com.onlineexam.entity.User;
 import com.onlineexam.repository.ExamRepository;
 import com.onlineexam.repository.ResultRepository;
+import com.onlineexam.repository.SubmissionRejectionRepository;
+import com.onlineexam.util.Csv;
+import com.onlineexam.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ResultService {
     
+    private static final String CSV_HEADER =
+            "id,examId,examTitle,studentId,studentName,score,totalQuestions,correctAnswers,submittedAt,grade\n";
+    
     private final ResultRepository resultRepository;
+    private final SubmissionRejectionRepository submissionRejectionRepository;
     private final ExamRepository examRepository;
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final ObjectMapper objectMapper;
     
     public ResultDto getResultById(Long resultId) {
-        Result result = resultRepository.findById(resultId)
+        return resultRepository.findResultDtoById(resultId)
                 .orElseThrow(() -> new RuntimeException("Result not found with id: " + resultId));
-        
-        ResultDto resultDto = modelMapper.map(result, ResultDto.class);
-        resultDto.setExamTitle(result.getExam().getTitle());
-        resultDto.setStudentName(result.getStudent().getName());
-        resultDto.setGrade(calculateGrade(result.getScore()));
-        
-        return resultDto;
+    }
+    
+    public Optional<ResultDto> findResultBySubmissionToken(String submissionToken) {
+        User currentUser = userService.getCurrentUser();
+        return resultRepository.findResultDtoBySubmissionToken(submissionToken, currentUser.getId());
+    }
+    
+    /**
+     * @return the rejected submission, with its status and reason, if the submission was not stored
+     */
+    public Optional<SubmissionRejection> findRejectedSubmission(String submissionToken) {
+        User currentUser = userService.getCurrentUser();
+        return submissionRejectionRepository.findBySubmissionTokenAndStudentId(submissionToken, currentUser.getId());
     }
     
     public List<ResultDto> getResultsByStudent() {
         User currentUser = userService.getCurrentUser();
-        List<Result> results = resultRepository.findByStudent(currentUser);
-        
-        return results.stream()
-                .map(result -> {
-                    ResultDto resultDto = modelMapper.map(result, ResultDto.class);
-                    resultDto.setExamTitle(result.getExam().getTitle());
-                    resultDto.setStudentName(result.getStudent().getName());
-                    resultDto.setGrade(calculateGrade(result.getScore()));
-                    return resultDto;
-                })
-                .collect(Collectors.toList());
+        return resultRepository.findResultDtosByStudentId(currentUser.getId());
     }
     
     public Page<ResultDto> getResultsByStudent(Pageable pageable) {
         User currentUser = userService.getCurrentUser();
-        return resultRepository.findByStudentId(currentUser.getId(), pageable)
-                .map(result -> {
-                    ResultDto resultDto = modelMapper.map(result, ResultDto.class);
-                    resultDto.setExamTitle(result.getExam().getTitle());
-                    resultDto.setStudentName(result.getStudent().getName());
-                    resultDto.setGrade(calculateGrade(result.getScore()));
-                    return resultDto;
-                });
+        return resultRepository.findResultDtosByStudentId(currentUser.getId(), pageable);
+    }
+    
+    public CursorPage<ResultDto> getResultsByStudent(String cursor, int size) {
+        User currentUser = userService.getCurrentUser();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(resultRepository.findResultDtoSliceByStudentIdBefore(currentUser.getId(),
+                after.getTimestamp(), after.getId(), KeysetCursor.pageRequest(size)),
+                ResultDto::getSubmittedAt, ResultDto::getId);
     }
     
     public List<ResultDto> getResultsByExam(Long examId) {
+        checkCanViewExamResults(examId);
+        return resultRepository.findResultDtosByExamId(examId);
+    }
+    
+    public CursorPage<ResultDto> getResultsByExam(Long examId, String cursor, int size) {
+        checkCanViewExamResults(examId);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(resultRepository.findResultDtoSliceByExamIdBefore(examId,
+                after.getTimestamp(), after.getId(), KeysetCursor.pageRequest(size)),
+                ResultDto::getSubmittedAt, ResultDto::getId);
+    }
+    
+    public void checkCanViewExamResults(Long examId) {
         Exam exam = examRepository.findById(examId)
                 .orElseThrow(() -> new RuntimeException("Exam not found with id: " + examId));
         
@@ -76,38 +103,57 @@ public class ResultService {
             !currentUser.getRole().equals(User.Role.ADMIN)) {
             throw new RuntimeException("You don't have permission to view results for this exam");
         }
+    }
+    
+    /**
+     * Stream an exam's results to the output as CSV or NDJSON, one row at a time.
+     * Rows come from a forward-only cursor, so memory use does not grow with the
+     * number of results; a slow client simply blocks the writes. Permissions must
+     * be checked with {@link #checkCanViewExamResults(Long)} beforehand, since this
+     * usually runs on an async thread without the caller's security context.
+     */
+    public void exportResultsByExam(Long examId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
         
-        List<Result> results = resultRepository.findByExam(exam);
-        
-        return results.stream()
-                .map(result -> {
-                    ResultDto resultDto = modelMapper.map(result, ResultDto.class);
-                    resultDto.setExamTitle(result.getExam().getTitle());
-                    resultDto.setStudentName(result.getStudent().getName());
-                    resultDto.setGrade(calculateGrade(result.getScore()));
-                    return resultDto;
-                })
-                .collect(Collectors.toList());
+        try (Stream<ResultDto> results = resultRepository.streamResultDtosByExamId(examId)) {
+            Iterator<ResultDto> iterator = results.iterator();
+            while (iterator.hasNext()) {
+                ResultDto result = iterator.next();
+                writer.write(format == ExportFormat.CSV ? toCsvRow(result) : objectMapper.writeValueAsString(result));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+    
+    private String toCsvRow(ResultDto result) {
+        return String.join(",",
+                Csv.escape(result.getId()),
+                Csv.escape(result.getExamId()),
+                Csv.escape(result.getExamTitle()),
+                Csv.escape(result.getStudentId()),
+                Csv.escape(result.getStudentName()),
+                Csv.escape(result.getScore()),
+                Csv.escape(result.getTotalQuestions()),
+                Csv.escape(result.getCorrectAnswers()),
+                Csv.escape(result.getSubmittedAt()),
+                Csv.escape(result.getGrade()));
     }
     
     public Page<ResultDto> getAllResults(Pageable pageable) {
-        return resultRepository.findAll(pageable)
-                .map(result -> {
-                    ResultDto resultDto = modelMapper.map(result, ResultDto.class);
-                    resultDto.setExamTitle(result.getExam().getTitle());
-                    resultDto.setStudentName(result.getStudent().getName());
-                    resultDto.setGrade(calculateGrade(result.getScore()));
-                    return resultDto;
-                });
+        return resultRepository.findAllResultDtos(pageable);
     }
     
-    private String calculateGrade(int score) {
-        if (score >= 90) return "A";
-        if (score >= 80) return "B";
-        if (score >= 70) return "C";
-        if (score >= 60) return "D";
-        return "F";
+    public CursorPage<ResultDto> getAllResults(String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(resultRepository.findResultDtoSliceBefore(after.getTimestamp(), after.getId(),
+                KeysetCursor.pageRequest(size)), ResultDto::getSubmittedAt, ResultDto::getId);
+    }
+    
+    public enum ExportFormat {
+        CSV, NDJSON
     }
 }
-
-
@@ -0,0 +1,255 @@
+package com.onlineexam.service;
+
+import com.onlineexam.dto.ExamSubmissionDto;
+import com.onlineexam.dto.SubmissionReceiptDto;
+import com.onlineexam.entity.SubmissionRejection;
+import com.onlineexam.entity.User;
+import com.onlineexam.repository.SubmissionRejectionRepository;
+import com.onlineexam.util.ExamPermutation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Asynchronous submission ingestion for exam-close bursts.
+ * Submissions are graded against the cached answer key on the request thread,
+ * queued, and persisted by a single writer in batched JDBC inserts. Students poll
+ * the results endpoints, or look the result up by the receipt's submission token;
+ * submissions that cannot be stored are recorded as a {@link SubmissionRejection}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionIngestionService {
+
+    private static final String STATUS_QUEUED = "QUEUED";
+
+    private static final String INSERT_RESULT = "INSERT INTO results " +
+            "(exam_id, student_id, score, total_questions, correct_answers, submitted_at, submission_token) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    
+    private final AnswerKeyCache answerKeyCache;
+    private final GradingEngine gradingEngine;
+    private final ExamPaperService examPaperService;
+    private final UserService userService;
+    private final SubmissionRejectionRepository submissionRejectionRepository;
+    private final ExamStatsRecorder examStatsRecorder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${exam.submission.ingestion.enabled:true}")
+    private boolean enabled;
+
+    @Value("${exam.submission.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${exam.submission.ingestion.batch-size:50}")
+    private int batchSize;
+
+    @Value("${exam.submission.ingestion.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<PendingResult> queue;
+    private Thread worker;
+    private volatile boolean running;
+    // Enqueuers share the read lock; stop() takes the write lock so no offer can land after the drain ends
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::drainQueue, "submission-ingestion");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+        if (!queue.isEmpty()) {
+            log.warn("Submission ingestion stopped with {} queued submissions not persisted", queue.size());
+        }
+    }
+
+    public SubmissionReceiptDto enqueue(ExamSubmissionDto submissionDto) {
+        if (!enabled) {
+            throw new RuntimeException("Asynchronous submission is disabled");
+        }
+
+        User currentUser = userService.getCurrentUser();
+        AnswerKey answerKey = answerKeyCache.getAnswerKey(submissionDto.getExamId());
+
+        if (answerKey.isEmpty()) {
+            throw new RuntimeException("No questions found for exam with id: " + submissionDto.getExamId());
+        }
+
+        int totalQuestions = answerKey.size();
+        ExamPermutation permutation = submissionDto.isShuffled()
+                ? examPaperService.permutationFor(submissionDto.getExamId(), currentUser.getId()) : null;
+        int correctAnswers = gradingEngine.countCorrectAnswers(answerKey, submissionDto.getAnswers(), permutation);
+        int score = gradingEngine.calculateScore(correctAnswers, totalQuestions);
+        LocalDateTime receivedAt = LocalDateTime.now();
+        String submissionToken = submissionDto.getSubmissionToken() != null
+                ? submissionDto.getSubmissionToken() : UUID.randomUUID().toString();
+
+        PendingResult pending = new PendingResult(submissionDto.getExamId(), currentUser.getId(),
+                score, totalQuestions, correctAnswers, receivedAt, submissionToken);
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new RuntimeException("Submission ingestion is shutting down, please submit synchronously");
+            }
+            if (!queue.offer(pending)) {
+                throw new RuntimeException("Submission queue is full, please retry shortly");
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+
+        return new SubmissionReceiptDto(submissionToken, submissionDto.getExamId(), currentUser.getId(),
+                STATUS_QUEUED, receivedAt);
+    }
+
+    private void drainQueue() {
+        List<PendingResult> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingResult first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Fill the batch until it is full or the flush interval elapses
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingResult next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in submission ingestion: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingResult> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // IDENTITY ids rule out Hibernate insert batching, so batch at the JDBC level
+                jdbcTemplate.batchUpdate(INSERT_RESULT, batch, batch.size(), SubmissionIngestionService::bind);
+                examStatsRecorder.recordScores(batch, pending -> pending.examId, pending -> pending.score);
+            });
+            log.debug("Persisted batch of {} submissions", batch.size());
+        } catch (DataAccessException e) {
+            // One bad row (typically a duplicate submission) fails the whole batch; retry row by row
+            log.warn("Batch insert of {} submissions failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (PendingResult pending : batch) {
+                persistSingle(pending);
+            }
+        }
+    }
+
+    private void persistSingle(PendingResult pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_RESULT, ps -> bind(ps, pending));
+                examStatsRecorder.recordScore(pending.examId, pending.score);
+            });
+        } catch (DuplicateKeyException e) {
+            reject(pending, SubmissionRejection.STATUS_DUPLICATE, "Exam already submitted");
+        } catch (DataAccessException e) {
+            reject(pending, SubmissionRejection.STATUS_FAILED, "Submission could not be stored");
+            log.error("Failed to store submission of exam {} by student {}: {}",
+                    pending.examId, pending.studentId, e.getMessage());
+        }
+    }
+
+    private void reject(PendingResult pending, String status, String reason) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> submissionRejectionRepository.save(
+                    new SubmissionRejection(pending.submissionToken, pending.examId, pending.studentId,
+                            status, reason, pending.submittedAt, LocalDateTime.now())));
+            log.info("Rejected submission {} of exam {} by student {}: {}",
+                    pending.submissionToken, pending.examId, pending.studentId, status);
+        } catch (DataAccessException e) {
+            log.error("Dropping submission {} of exam {} by student {}, rejection not recorded: {}",
+                    pending.submissionToken, pending.examId, pending.studentId, e.getMessage());
+        }
+    }
+    
+    private static void bind(PreparedStatement ps, PendingResult pending) throws SQLException {
+        ps.setLong(1, pending.examId);
+        ps.setLong(2, pending.studentId);
+        ps.setInt(3, pending.score);
+        ps.setInt(4, pending.totalQuestions);
+        ps.setInt(5, pending.correctAnswers);
+        ps.setTimestamp(6, Timestamp.valueOf(pending.submittedAt));
+        ps.setString(7, pending.submissionToken);
+    }
+
+    private static final class PendingResult {
+        private final Long examId;
+        private final Long studentId;
+        private final int score;
+        private final int totalQuestions;
+        private final int correctAnswers;
+        private final LocalDateTime submittedAt;
+        private final String submissionToken;
+
+        private PendingResult(Long examId, Long studentId, int score, int totalQuestions,
+                              int correctAnswers, LocalDateTime submittedAt, String submissionToken) {
+            this.examId = examId;
+            this.studentId = studentId;
+            this.score = score;
+            this.totalQuestions = totalQuestions;
+            this.correctAnswers = correctAnswers;
+            this.submittedAt = submittedAt;
+            this.submissionToken = submissionToken;
+        }
+    }
+}
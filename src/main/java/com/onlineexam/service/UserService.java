@@ -1,16 +1,21 @@
 package com.onlineexam.service;
 
+import com.onlineexam.dto.CursorPage;
 import com.onlineexam.dto.UserDto;
 import com.onlineexam.entity.User;
+import com.onlineexam.mapper.UserMapper;
 import com.onlineexam.repository.UserRepository;
+import com.onlineexam.security.CurrentUserContext;
+import com.onlineexam.security.TokenRevocationRegistry;
+import com.onlineexam.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 @RequiredArgsConstructor
@@ -18,33 +23,56 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final ExamCatalogCache examCatalogCache;
+    private final ExamStatsRecorder examStatsRecorder;
+    private final CurrentUserContext currentUserContext;
     
     public UserDto getUserById(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-        return modelMapper.map(user, UserDto.class);
+        return userMapper.toDto(user);
     }
     
     public UserDto updateUser(Long userId, UserDto userDto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         
+        principalCache.invalidate(user.getEmail());
+        principalCache.invalidate(userDto.getEmail());
+        if (!user.getEmail().equals(userDto.getEmail())) {
+            // Existing tokens carry the old email as their subject
+            tokenRevocationRegistry.revokeTokensOf(user);
+        }
+        if (!user.getName().equals(userDto.getName())) {
+            // Catalog pages show the exam creator's name
+            examCatalogCache.invalidate();
+        }
+        
         user.setName(userDto.getName());
         user.setEmail(userDto.getEmail());
         
         User updatedUser = userRepository.save(user);
-        return modelMapper.map(updatedUser, UserDto.class);
+        return userMapper.toDto(updatedUser);
     }
     
     public Page<UserDto> getAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable)
-                .map(user -> modelMapper.map(user, UserDto.class));
+                .map(userMapper::toDto);
+    }
+    
+    public CursorPage<UserDto> getAllUsers(String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(userRepository.findSliceBefore(after.getTimestamp(), after.getId(),
+                        KeysetCursor.pageRequest(size))
+                .map(userMapper::toDto), UserDto::getCreatedAt, UserDto::getId);
     }
     
     public Page<UserDto> getUsersByRole(User.Role role, Pageable pageable) {
         return userRepository.findByRole(role, pageable)
-                .map(user -> modelMapper.map(user, UserDto.class));
+                .map(userMapper::toDto);
     }
     
     public UserDto updateUserRole(Long userId, User.Role role) {
@@ -52,15 +80,24 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         
         user.setRole(role);
+        principalCache.invalidate(user.getEmail());
+        tokenRevocationRegistry.revokeTokensOf(user);
         User updatedUser = userRepository.save(user);
-        return modelMapper.map(updatedUser, UserDto.class);
+        return userMapper.toDto(updatedUser);
     }
     
     public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new RuntimeException("User not found with id: " + userId);
-        }
-        userRepository.deleteById(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        
+        principalCache.invalidate(user.getEmail());
+        // Once the row is gone, every token issued to the user is rejected
+        tokenRevocationRegistry.revokeTokensOf(user);
+        // Deleting a teacher cascades to their exams
+        examCatalogCache.invalidate();
+        // A student's results go with the cascade; take them out of the exam statistics first
+        examStatsRecorder.removeResultsOfStudent(userId);
+        userRepository.delete(user);
     }
     
     public User getCurrentUser() {
@@ -69,6 +106,11 @@ public class UserService {
             throw new RuntimeException("User not authenticated");
         }
         
+        // Within a web request the entity is resolved once and reused by every service call
+        if (RequestContextHolder.getRequestAttributes() != null) {
+            return currentUserContext.getUser(authentication);
+        }
+        
         String email = authentication.getName();
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
@@ -0,0 +1,219 @@
+package com.onlineexam.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Small in-process LRU cache with a size bound and optional per-entry expiry.
+ * Concurrent misses for the same key share a single load, and loaders always run
+ * outside the cache lock so slow (JDBC) loads never block other keys. A load that
+ * overlaps an invalidation of its key is returned to its callers but not cached.
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name      name reported in {@link #stats()}
+     * @param maxSize   maximum number of entries before the least recently used one is evicted
+     * @param ttlMillis default time to live of an entry, or 0 for entries that never expire
+     */
+    public BoundedCache(String name, int maxSize, long ttlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get a cached value
+     * @return the value, or null if absent or expired
+     */
+    public V get(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a cached value, loading it on a miss. Concurrent callers missing on the same
+     * key wait for the first caller's load instead of running their own.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key, "Cache key must not be null");
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            V value = loader.apply(key);
+            if (value != null) {
+                putIfStillLoading(key, value, load);
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE);
+    }
+
+    /**
+     * Put a value that expires at the given wall-clock time
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, expiresAtMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop the key and detach any load in flight for it, so that load is not cached.
+     * Loads of other keys are unaffected. A null key is ignored.
+     */
+    public void invalidate(K key) {
+        if (key == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.remove(key);
+            loading.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            loading.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return snapshot of hit/miss counters suitable for diagnostics endpoints
+     */
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", requests == 0 ? 0.0 : (double) hitCount / requests);
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    private void putIfStillLoading(K key, V value, CompletableFuture<V> load) {
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        lock.lock();
+        try {
+            // An invalidation of this key detaches its load; such a value may predate the change
+            if (loading.get(key) == load) {
+                entries.put(key, new Entry<>(value, expiresAt));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+
+        private Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Properties;
  */
 public class DatabaseConnection {
     private static HikariDataSource dataSource;
+    private static Properties properties = new Properties();
     private static final String PROPERTIES_FILE = "db.properties";
 
     static {
@@ -27,6 +28,7 @@ public class DatabaseConnection {
     private static void initializeDataSource() {
         try {
             Properties props = loadProperties();
+            properties = props;
             
             HikariConfig config = new HikariConfig();
             config.setDriverClassName(props.getProperty("db.driver"));
@@ -78,6 +80,16 @@ public class DatabaseConnection {
         return props;
     }
 
+    /**
+     * Get a setting from the properties file
+     * @param key the property name
+     * @param defaultValue value returned when the property is not set
+     * @return the configured value, or defaultValue
+     */
+    public static String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
     /**
      * Get a database connection from the connection pool
      * @return Connection object
@@ -0,0 +1,110 @@
+package com.onlineexam.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic per-student question order and option shuffle.
+ * Everything is derived on demand from (examId, studentId, seed), so the same
+ * student always sees the same paper and nothing has to be stored per student.
+ * Permutations map a displayed position to the original index:
+ * {@code order[shown] == original}.
+ */
+public final class ExamPermutation {
+
+    private final long key;
+
+    private ExamPermutation(long key) {
+        this.key = key;
+    }
+
+    public static ExamPermutation of(long examId, long studentId, long seed) {
+        return new ExamPermutation(mix(mix(mix(seed) ^ examId) ^ studentId));
+    }
+
+    /**
+     * Random generator for drawing this student's questions
+     */
+    public SplittableRandom drawRandom() {
+        return new SplittableRandom(mix(key ^ 0x5DEECE66DL));
+    }
+
+    /**
+     * @return order[i] is the original index of the question shown at position i
+     */
+    public int[] questionOrder(int questionCount) {
+        return permutation(questionCount, key);
+    }
+
+    /**
+     * @return order[i] is the original index of the option shown at position i
+     */
+    public int[] optionOrder(long questionId, int optionCount) {
+        return permutation(optionCount, mix(key ^ questionId));
+    }
+
+    /**
+     * Map an option index as displayed to this student back to the stored option index
+     * @return the original option index, or -1 if shownOption is out of range
+     */
+    public int originalOption(long questionId, int optionCount, int shownOption) {
+        return originalOption(questionId, optionCount, shownOption, new int[optionCount]);
+    }
+
+    /**
+     * Allocation-free form of {@link #originalOption(long, int, int)} for grading loops.
+     * The shuffle stops as soon as the displayed position is settled.
+     * @param scratch working buffer of at least optionCount elements, reused across calls
+     * @return the original option index, or -1 if shownOption is out of range
+     */
+    public int originalOption(long questionId, int optionCount, int shownOption, int[] scratch) {
+        if (shownOption < 0 || shownOption >= optionCount) {
+            return -1;
+        }
+        shuffle(scratch, optionCount, mix(key ^ questionId), shownOption);
+        return scratch[shownOption];
+    }
+
+    /**
+     * Map a stored option index to the position it is displayed at for this student
+     * @return the displayed option index, or -1 if originalOption is out of range
+     */
+    public int shownOption(long questionId, int optionCount, int originalOption) {
+        int[] order = optionOrder(questionId, optionCount);
+        for (int shown = 0; shown < order.length; shown++) {
+            if (order[shown] == originalOption) {
+                return shown;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] permutation(int size, long seed) {
+        int[] order = new int[size];
+        shuffle(order, size, seed, 0);
+        return order;
+    }
+
+    /**
+     * Seeded Fisher-Yates shuffle of [0, size) into order. Position i is final once
+     * step i has run, so the shuffle can stop early at position settledFrom.
+     */
+    private static void shuffle(int[] order, int size, long seed, int settledFrom) {
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = size - 1; i > 0 && i >= settledFrom; i--) {
+            int swap = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[swap];
+            order[swap] = tmp;
+        }
+    }
+
+    // SplitMix64 finalizer: spreads nearby ids into unrelated seeds
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,78 @@
+package com.onlineexam.util;
+
+import javafx.concurrent.Task;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs blocking work (DAO calls) off the JavaFX application thread.
+ * Results and failures are delivered back on the FX thread through the
+ * {@link Task} callbacks. Tasks still running when the scene changes are
+ * cancelled with {@link #cancelAll()} so they never update a hidden view.
+ */
+public final class FxTasks {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "fx-loader-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Set<Task<?>> ACTIVE_TASKS = ConcurrentHashMap.newKeySet();
+
+    private FxTasks() {
+    }
+
+    /**
+     * Run work on a background thread
+     * @param work      blocking work; runs off the FX thread and must not touch UI nodes
+     * @param onSuccess receives the result on the FX thread
+     * @param onFailure receives the exception on the FX thread
+     * @return the submitted task
+     */
+    public static <T> Task<T> run(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+
+        task.setOnSucceeded(event -> {
+            ACTIVE_TASKS.remove(task);
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(event -> {
+            ACTIVE_TASKS.remove(task);
+            onFailure.accept(task.getException());
+        });
+        task.setOnCancelled(event -> ACTIVE_TASKS.remove(task));
+
+        ACTIVE_TASKS.add(task);
+        EXECUTOR.execute(task);
+        return task;
+    }
+
+    /**
+     * Cancel every pending or running task; their callbacks will not run
+     */
+    public static void cancelAll() {
+        for (Task<?> task : ACTIVE_TASKS) {
+            task.cancel(true);
+        }
+        ACTIVE_TASKS.clear();
+    }
+
+    public static void shutdown() {
+        cancelAll();
+        EXECUTOR.shutdownNow();
+    }
+}
@@ -0,0 +1,49 @@
+package com.onlineexam.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Helpers for the DAO batch write paths.
+ * Batches are split into chunks so a single statement or packet never grows
+ * with the caller's list size.
+ */
+public final class JdbcBatches {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private JdbcBatches() {
+    }
+
+    /**
+     * @return "?, ?, ..., ?" with count placeholders, for IN lists
+     */
+    public static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "?" : ", ?");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Delete rows by id with one IN statement per chunk, on the caller's connection
+     * @param table trusted table name
+     * @return number of rows deleted
+     */
+    public static int deleteByIds(Connection conn, String table, int[] ids) throws SQLException {
+        int deleted = 0;
+        for (int from = 0; from < ids.length; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, ids.length);
+            String sql = "DELETE FROM " + table + " WHERE id IN (" + placeholders(to - from) + ")";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = from; i < to; i++) {
+                    stmt.setInt(i - from + 1, ids[i]);
+                }
+                deleted += stmt.executeUpdate();
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,80 @@
+package com.onlineexam.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a list ordered by (timestamp DESC, id DESC), exchanged with
+ * clients as an opaque URL-safe token. Queries filter on
+ * {@code ts < :ts OR (ts = :ts AND id < :id)} so every page is an index
+ * range scan, however deep, and no count query is needed.
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Sorts after every stored row, so the first page uses the same query as later ones
+    private static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime timestamp;
+    private final long id;
+
+    private KeysetCursor(LocalDateTime timestamp, long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Decode a token produced by {@link #encode}
+     * @param token the token, or null/blank for the first page
+     * @return the position to continue after
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encode the position of the last row of a page
+     * @param timestamp the row's sort timestamp
+     * @param id        the row's id
+     * @return an opaque URL-safe token
+     */
+    public static String encode(LocalDateTime timestamp, Long id) {
+        String value = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Page request for a keyset query; Spring Data fetches one extra row to fill {@code Slice.hasNext()}
+     * @param size requested page size, clamped to 1..{@value #MAX_PAGE_SIZE}
+     * @return an unsorted request for the first "page" of the filtered range
+     */
+    public static Pageable pageRequest(int size) {
+        return PageRequest.ofSize(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+}
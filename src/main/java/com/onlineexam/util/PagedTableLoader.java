@@ -0,0 +1,137 @@
+package com.onlineexam.util;
+
+import javafx.application.Platform;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableView;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Fills a {@link TableView} one page at a time as the user scrolls.
+ * Pages are fetched on a background thread through {@link FxTasks}; the
+ * next page is requested when the vertical scroll bar nears the bottom, or
+ * straight away while the rows loaded so far do not fill the viewport.
+ * TableView only renders visible rows, so render cost stays flat no matter
+ * how many pages have been appended.
+ */
+public final class PagedTableLoader<T> {
+
+    /**
+     * Fetches the page that follows a given row
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+
+        /**
+         * @param last  the last row already loaded, or null for the first page
+         * @param limit maximum number of rows to return
+         * @return the next rows; fewer than limit means there are no more
+         */
+        List<T> fetch(T last, int limit) throws Exception;
+    }
+
+    private static final double LOAD_THRESHOLD = 0.9;
+
+    private final TableView<T> table;
+    private final int pageSize;
+    private final PageSource<T> source;
+    private final Consumer<Throwable> onFailure;
+
+    private ScrollBar scrollBar;
+    private boolean loading;
+    private boolean exhausted;
+    private int generation;
+
+    /**
+     * @param table     table whose items are appended to
+     * @param pageSize  rows per page
+     * @param source    page fetcher; runs off the FX thread
+     * @param onFailure receives fetch errors on the FX thread
+     */
+    public PagedTableLoader(TableView<T> table, int pageSize, PageSource<T> source, Consumer<Throwable> onFailure) {
+        this.table = table;
+        this.pageSize = pageSize;
+        this.source = source;
+        this.onFailure = onFailure;
+
+        // The scroll bar only exists once the table has a skin
+        table.skinProperty().addListener((obs, oldSkin, newSkin) -> Platform.runLater(this::fillViewport));
+    }
+
+    /**
+     * Clear the table and load the first page
+     */
+    public void reload() {
+        // Pages still in flight belong to the previous generation and are dropped
+        generation++;
+        table.getItems().clear();
+        loading = false;
+        exhausted = false;
+        loadNextPage();
+    }
+
+    /**
+     * Load the next page unless one is in flight or all rows are loaded
+     */
+    public void loadNextPage() {
+        if (loading || exhausted) {
+            return;
+        }
+        loading = true;
+
+        List<T> items = table.getItems();
+        T last = items.isEmpty() ? null : items.get(items.size() - 1);
+        int requestGeneration = generation;
+
+        FxTasks.run(() -> source.fetch(last, pageSize), page -> {
+            if (requestGeneration != generation) {
+                return;
+            }
+            loading = false;
+            exhausted = page.size() < pageSize;
+            table.getItems().addAll(page);
+            Platform.runLater(this::fillViewport);
+        }, e -> {
+            if (requestGeneration != generation) {
+                return;
+            }
+            loading = false;
+            onFailure.accept(e);
+        });
+    }
+
+    /**
+     * @return true once a short page showed there are no more rows
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    private void attachScrollBar() {
+        if (scrollBar != null) {
+            return;
+        }
+        for (Node node : table.lookupAll(".scroll-bar")) {
+            if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                scrollBar = bar;
+                bar.valueProperty().addListener((obs, oldValue, newValue) -> {
+                    if (newValue.doubleValue() >= bar.getMax() * LOAD_THRESHOLD) {
+                        loadNextPage();
+                    }
+                });
+                break;
+            }
+        }
+    }
+
+    private void fillViewport() {
+        attachScrollBar();
+        // Without a visible scroll bar the user has no way to ask for more rows
+        if (scrollBar != null && !scrollBar.isVisible()) {
+            loadNextPage();
+        }
+    }
+}
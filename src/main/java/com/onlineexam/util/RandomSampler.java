@@ -0,0 +1,46 @@
+package com.onlineexam.util;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Uniform sampling without replacement
+ */
+public final class RandomSampler {
+
+    private RandomSampler() {
+    }
+
+    /**
+     * Draw k distinct indices from [0, n) using Floyd's algorithm, in O(k) time
+     * and space regardless of n. The result is returned in random order.
+     * @param n size of the population
+     * @param k number of indices to draw; clamped to n
+     * @return k distinct indices in random order
+     */
+    public static int[] sampleIndices(int n, int k, RandomGenerator random) {
+        k = Math.min(k, n);
+        int[] sample = new int[k];
+        Set<Integer> chosen = new HashSet<>(k * 2);
+
+        int size = 0;
+        for (int j = n - k; j < n; j++) {
+            int candidate = random.nextInt(j + 1);
+            int pick = chosen.add(candidate) ? candidate : j;
+            if (pick == j) {
+                chosen.add(j);
+            }
+            sample[size++] = pick;
+        }
+
+        // Floyd's draw is uniform as a set but biased in order; shuffle for a random order
+        for (int i = k - 1; i > 0; i--) {
+            int swap = random.nextInt(i + 1);
+            int tmp = sample[i];
+            sample[i] = sample[swap];
+            sample[swap] = tmp;
+        }
+        return sample;
+    }
+}
@@ -0,0 +1,162 @@
+package com.onlineexam.util;
+
+import com.onlineexam.controller.ViewLifecycle;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads each FXML view once and switches the stage between the cached scenes.
+ * Views can be preloaded on a background thread: only FXML parsing and controller
+ * construction happen there, the {@link Scene} itself is created on the FX thread
+ * the first time the view is shown.
+ * Controllers implementing {@link ViewLifecycle} are told when their view is
+ * shown and hidden so they can reset per-visit state.
+ */
+public final class SceneManager {
+
+    /**
+     * Views of the desktop client
+     */
+    public enum View {
+        LOGIN("/fxml/LoginView.fxml", 800, 600, "Login"),
+        REGISTER("/fxml/RegisterView.fxml", 800, 600, "Registration"),
+        STUDENT_DASHBOARD("/fxml/StudentDashboardView.fxml", 1000, 700, "Student Dashboard"),
+        ADMIN_DASHBOARD("/fxml/AdminDashboardView.fxml", 1000, 700, "Admin Dashboard"),
+        EXAM("/fxml/ExamView.fxml", 1000, 700, "Exam"),
+        RESULT("/fxml/ResultView.fxml", 800, 600, "Results"),
+        QUESTION_MANAGEMENT("/fxml/QuestionManagementView.fxml", 1200, 800, "Question Management");
+
+        private final String resource;
+        private final double width;
+        private final double height;
+        private final String title;
+
+        View(String resource, double width, double height, String title) {
+            this.resource = resource;
+            this.width = width;
+            this.height = height;
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    private record LoadedView(Parent root, Object controller) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(SceneManager.class);
+
+    private static final String TITLE_PREFIX = "Online Examination System - ";
+
+    private final Stage stage;
+    private final Map<View, CompletableFuture<LoadedView>> views = new ConcurrentHashMap<>();
+    // Only touched on the FX thread
+    private final Map<View, Scene> scenes = new EnumMap<>(View.class);
+    private final ExecutorService preloader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fx-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private View currentView;
+
+    public SceneManager(Stage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Start loading views in the background so the first visit is instant
+     * @param toPreload views to load, in order
+     */
+    public void preload(View... toPreload) {
+        for (View view : toPreload) {
+            views.computeIfAbsent(view, v -> CompletableFuture.supplyAsync(() -> load(v), preloader));
+        }
+    }
+
+    /**
+     * Make a view the current scene, loading it first if it is not cached.
+     * Must be called on the FX thread.
+     * @param view the view to show
+     * @throws IOException if the FXML could not be loaded
+     */
+    public void show(View view) throws IOException {
+        long start = System.nanoTime();
+        LoadedView loaded = get(view);
+        Scene scene = scenes.computeIfAbsent(view, v -> new Scene(loaded.root(), v.width, v.height));
+
+        View previous = currentView;
+        if (previous != null && previous != view) {
+            LoadedView previousView = views.get(previous).getNow(null);
+            if (previousView != null && previousView.controller() instanceof ViewLifecycle lifecycle) {
+                lifecycle.onHide();
+            }
+        }
+
+        currentView = view;
+        stage.setScene(scene);
+        stage.setTitle(TITLE_PREFIX + view.getTitle());
+        if (loaded.controller() instanceof ViewLifecycle lifecycle) {
+            lifecycle.onShow();
+        }
+        log.info("Showed {} in {} ms", view, elapsedMillis(start));
+    }
+
+    public void shutdown() {
+        preloader.shutdownNow();
+    }
+
+    private LoadedView get(View view) throws IOException {
+        CompletableFuture<LoadedView> future = views.get(view);
+        if (future != null) {
+            try {
+                // Waits for an in-flight preload rather than parsing the view twice
+                return future.join();
+            } catch (CompletionException e) {
+                log.warn("Preloading {} failed, loading it again", view, e.getCause());
+                views.remove(view, future);
+            }
+        }
+
+        LoadedView loaded;
+        try {
+            loaded = load(view);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        views.put(view, CompletableFuture.completedFuture(loaded));
+        return loaded;
+    }
+
+    private static LoadedView load(View view) {
+        long start = System.nanoTime();
+        try {
+            FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource(view.resource));
+            Parent root = loader.load();
+            log.info("Loaded {} on {} in {} ms", view, Thread.currentThread().getName(), elapsedMillis(start));
+            return new LoadedView(root, loader.getController());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
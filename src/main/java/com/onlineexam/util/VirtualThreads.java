@@ -0,0 +1,52 @@
+package com.onlineexam.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads without compiling against Java 21 APIs.
+ * The server builds on Java 17; virtual-thread mode is only usable when it runs on 21 or newer.
+ */
+public final class VirtualThreads {
+
+    private static final int MIN_FEATURE_VERSION = 21;
+    private static final String PARALLELISM_PROPERTY = "jdk.virtualThreadScheduler.parallelism";
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= MIN_FEATURE_VERSION;
+    }
+
+    /**
+     * Executor that starts a new virtual thread for each task
+     * @throws IllegalStateException if the running JVM has no virtual threads
+     */
+    public static ExecutorService newPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads need Java " + MIN_FEATURE_VERSION
+                    + " or newer; running on " + Runtime.version());
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on " + Runtime.version(), e);
+        }
+    }
+
+    /**
+     * Give the virtual-thread scheduler at least one more carrier than there are threads that can
+     * be pinned at once. A virtual thread blocking inside synchronized driver code holds its carrier;
+     * only threads holding a pooled connection do JDBC I/O, so with {@code maxPinned + 1} carriers
+     * pinned JDBC calls cannot starve the rest of the request handling.
+     * Must run before the first virtual thread starts; an explicit setting is left alone.
+     * @param maxPinned upper bound on simultaneously pinned threads, normally the connection pool size
+     */
+    public static void reserveCarriers(int maxPinned) {
+        if (System.getProperty(PARALLELISM_PROPERTY) == null) {
+            int parallelism = Math.max(Runtime.getRuntime().availableProcessors(), maxPinned + 1);
+            System.setProperty(PARALLELISM_PROPERTY, String.valueOf(parallelism));
+        }
+    }
+}
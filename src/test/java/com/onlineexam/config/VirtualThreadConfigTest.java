@@ -0,0 +1,132 @@
+package com.onlineexam.config;
+
+import com.onlineexam.util.VirtualThreads;
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class VirtualThreadConfigTest {
+
+    private static final String PARALLELISM = "jdk.virtualThreadScheduler.parallelism";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadConfig.class)
+            .withPropertyValues("exam.virtual-threads.pinning-monitor=false");
+
+    private String savedParallelism;
+
+    @BeforeEach
+    void saveParallelism() {
+        savedParallelism = System.clearProperty(PARALLELISM);
+    }
+
+    @AfterEach
+    void restoreParallelism() {
+        if (savedParallelism == null) {
+            System.clearProperty(PARALLELISM);
+        } else {
+            System.setProperty(PARALLELISM, savedParallelism);
+        }
+    }
+
+    @Test
+    void disabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(VirtualThreadConfig.class);
+            assertThat(context).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class);
+        });
+    }
+
+    @Test
+    void enabledModeRegistersCustomizer() {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads need Java 21");
+
+        contextRunner.withPropertyValues("exam.virtual-threads.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(VirtualThreadConfig.class);
+            assertThat(context).hasSingleBean(TomcatProtocolHandlerCustomizer.class);
+        });
+    }
+
+    @Test
+    void enabledModeFailsStartupBeforeJava21() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        contextRunner.withPropertyValues("exam.virtual-threads.enabled=true").run(context -> {
+            assertThat(context).hasFailed();
+            assertThat(context.getStartupFailure()).hasRootCauseInstanceOf(IllegalStateException.class);
+        });
+        assertThrows(IllegalStateException.class, VirtualThreads::newPerTaskExecutor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void customizerRunsTomcatRequestsOnVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads need Java 21");
+
+        TomcatProtocolHandlerCustomizer<ProtocolHandler> customizer = (TomcatProtocolHandlerCustomizer<ProtocolHandler>)
+                new VirtualThreadConfig(10).virtualThreadProtocolHandlerCustomizer();
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+        customizer.customize(protocolHandler);
+
+        ArgumentCaptor<Executor> executor = ArgumentCaptor.forClass(Executor.class);
+        verify(protocolHandler).setExecutor(executor.capture());
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        executor.getValue().execute(() -> virtual.complete(isVirtual(Thread.currentThread())));
+        assertTrue(virtual.get(5, TimeUnit.SECONDS));
+        ((ExecutorService) executor.getValue()).shutdown();
+    }
+
+    @Test
+    void configReservesCarriersForConnectionPool() {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads need Java 21");
+
+        new VirtualThreadConfig(64);
+
+        assertEquals(String.valueOf(Math.max(Runtime.getRuntime().availableProcessors(), 65)),
+                System.getProperty(PARALLELISM));
+    }
+
+    @Test
+    void reserveCarriersSetsParallelismWhenUnset() {
+        VirtualThreads.reserveCarriers(10);
+
+        assertEquals(String.valueOf(Math.max(Runtime.getRuntime().availableProcessors(), 11)),
+                System.getProperty(PARALLELISM));
+    }
+
+    @Test
+    void reserveCarriersKeepsExplicitParallelism() {
+        System.setProperty(PARALLELISM, "3");
+
+        VirtualThreads.reserveCarriers(10);
+
+        assertEquals("3", System.getProperty(PARALLELISM));
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
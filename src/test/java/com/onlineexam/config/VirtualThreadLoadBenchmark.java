@@ -0,0 +1,99 @@
+package com.onlineexam.config;
+
+import com.onlineexam.util.VirtualThreads;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Platform vs virtual request threads under a submission storm of slow clients.
+ * Each request first waits on its client without holding a connection, then runs a short
+ * query on one of the same number of pooled connections; a fair semaphore stands in for Hikari.
+ * Manual load comparison, not part of the unit test run: start {@link #main} on Java 21 and read
+ * the report. Arguments override requests, client wait and query time in milliseconds.
+ */
+public final class VirtualThreadLoadBenchmark {
+
+    private static final int POOL_SIZE = 10;
+    private static final int PLATFORM_THREADS = 200; // Tomcat's default max-threads
+    private static final int ROUNDS = 3;
+
+    private final int requests;
+    private final long clientWaitMillis;
+    private final long queryMillis;
+    private final Semaphore connections = new Semaphore(POOL_SIZE, true);
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger maxConnectionsInUse = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    private VirtualThreadLoadBenchmark(int requests, long clientWaitMillis, long queryMillis) {
+        this.requests = requests;
+        this.clientWaitMillis = clientWaitMillis;
+        this.queryMillis = queryMillis;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        long clientWaitMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        long queryMillis = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+        System.out.printf("%d requests, %d ms client wait, %d ms query, %d pooled connections%n",
+                requests, clientWaitMillis, queryMillis, POOL_SIZE);
+        for (int round = 1; round <= ROUNDS; round++) {
+            report("platform (" + PLATFORM_THREADS + " threads)", requests, clientWaitMillis, queryMillis,
+                    Executors.newFixedThreadPool(PLATFORM_THREADS));
+            if (VirtualThreads.isSupported()) {
+                report("virtual", requests, clientWaitMillis, queryMillis, VirtualThreads.newPerTaskExecutor());
+            } else {
+                System.out.println("virtual: skipped, needs Java 21; running on " + Runtime.version());
+            }
+        }
+    }
+
+    private static void report(String mode, int requests, long clientWaitMillis, long queryMillis,
+                               ExecutorService executor) throws InterruptedException {
+        VirtualThreadLoadBenchmark run = new VirtualThreadLoadBenchmark(requests, clientWaitMillis, queryMillis);
+        long elapsedMillis = run.execute(executor);
+        System.out.printf("%s: %d ms, %d/%d completed, at most %d connections in use%n",
+                mode, elapsedMillis, run.completed.get(), requests, run.maxConnectionsInUse.get());
+    }
+
+    private long execute(ExecutorService executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < requests; i++) {
+                executor.execute(() -> {
+                    try {
+                        handleRequest();
+                        completed.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void handleRequest() throws InterruptedException {
+        Thread.sleep(clientWaitMillis);
+        connections.acquire();
+        try {
+            maxConnectionsInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+            Thread.sleep(queryMillis);
+        } finally {
+            inUse.decrementAndGet();
+            connections.release();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.onlineexam.controller;
+
+import com.onlineexam.service.ExamPaperCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentControllerTest {
+
+    private static final byte[] JSON = {'{', '}'};
+    private static final byte[] GZIP = {0x1f, (byte) 0x8b};
+    private static final String ETAG = "\"abc\"";
+    private static final String GZIP_ETAG = "\"abc-gzip\"";
+
+    private final ExamPaperCache examPaperCache = mock(ExamPaperCache.class);
+    private final StudentController controller = new StudentController(null, null, examPaperCache, null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        ExamPaperCache.ExamPaper paper = mock(ExamPaperCache.ExamPaper.class);
+        when(paper.getJson()).thenReturn(JSON);
+        when(paper.getGzip()).thenReturn(GZIP);
+        when(paper.getEtag()).thenReturn(ETAG);
+        when(paper.getGzipEtag()).thenReturn(GZIP_ETAG);
+        when(examPaperCache.getPaper(1L)).thenReturn(paper);
+    }
+
+    @Test
+    void servesIdentityJsonWithoutAcceptEncoding() {
+        ResponseEntity<?> response = controller.getExamPaper(1L, null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertArrayEquals(JSON, (byte[]) response.getBody());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getFirst(HttpHeaders.VARY));
+    }
+
+    @Test
+    void servesGzipWithItsOwnEtagWhenAccepted() {
+        ResponseEntity<?> response = controller.getExamPaper(1L, "deflate, gzip", null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertArrayEquals(GZIP, (byte[]) response.getBody());
+        assertEquals(GZIP_ETAG, response.getHeaders().getETag());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void matchingEtagIsNotModified() {
+        ResponseEntity<?> response = controller.getExamPaper(1L, "gzip", GZIP_ETAG);
+
+        assertEquals(304, response.getStatusCode().value());
+        assertNull(response.getBody());
+        assertEquals(GZIP_ETAG, response.getHeaders().getETag());
+    }
+
+    @Test
+    void etagOfTheOtherEncodingIsServedAgain() {
+        ResponseEntity<?> response = controller.getExamPaper(1L, "gzip", ETAG);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertArrayEquals(GZIP, (byte[]) response.getBody());
+    }
+
+    @Test
+    void unknownExamIsNotFound() {
+        when(examPaperCache.getPaper(2L)).thenThrow(new NoSuchElementException("Exam not found with id: 2"));
+
+        assertEquals(404, controller.getExamPaper(2L, null, null).getStatusCode().value());
+    }
+
+    @Test
+    void failureToBuildPaperIsServerError() {
+        when(examPaperCache.getPaper(3L)).thenThrow(new IllegalStateException("serialization failed"));
+
+        assertEquals(500, controller.getExamPaper(3L, null, null).getStatusCode().value());
+    }
+
+    @Test
+    void acceptsGzipHonoursQualityZero() {
+        assertTrue(StudentController.acceptsGzip("gzip"));
+        assertTrue(StudentController.acceptsGzip("br, GZIP;q=0.5"));
+        assertFalse(StudentController.acceptsGzip(null));
+        assertFalse(StudentController.acceptsGzip("deflate, br"));
+        assertFalse(StudentController.acceptsGzip("gzip;q=0"));
+        assertFalse(StudentController.acceptsGzip("gzip; q=0.000"));
+    }
+
+    @Test
+    void matchesEtagUsesWeakComparisonOverTheList() {
+        assertTrue(StudentController.matchesEtag(ETAG, ETAG));
+        assertTrue(StudentController.matchesEtag("\"old\", W/" + ETAG, ETAG));
+        assertTrue(StudentController.matchesEtag("*", ETAG));
+        assertFalse(StudentController.matchesEtag(null, ETAG));
+        assertFalse(StudentController.matchesEtag("\"old\"", ETAG));
+    }
+}
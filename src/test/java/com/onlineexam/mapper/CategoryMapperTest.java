@@ -0,0 +1,41 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.CategoryDto;
+import com.onlineexam.entity.Category;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CategoryMapperTest {
+
+    private final CategoryMapper mapper = new CategoryMapper();
+
+    @Test
+    void mapsCategoryToDto() {
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Science");
+        category.setDescription("General science questions");
+
+        CategoryDto dto = mapper.toDto(category);
+
+        assertEquals(1L, dto.getId());
+        assertEquals("Science", dto.getName());
+        assertEquals("General science questions", dto.getDescription());
+    }
+
+    @Test
+    void newEntityIgnoresClientId() {
+        CategoryDto dto = new CategoryDto();
+        dto.setId(99L);
+        dto.setName("History");
+        dto.setDescription("World history");
+
+        Category category = mapper.toEntity(dto);
+
+        assertNull(category.getId());
+        assertEquals("History", category.getName());
+        assertEquals("World history", category.getDescription());
+    }
+}
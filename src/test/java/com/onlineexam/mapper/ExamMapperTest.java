@@ -0,0 +1,47 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.ExamDto;
+import com.onlineexam.entity.Category;
+import com.onlineexam.entity.Exam;
+import com.onlineexam.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ExamMapperTest {
+
+    @Test
+    void mapsSummaryWithoutQuestions() {
+        Category category = new Category();
+        category.setId(4L);
+        category.setName("Mathematics");
+        User teacher = new User();
+        teacher.setId(8L);
+        teacher.setName("Alan");
+        Exam exam = new Exam();
+        exam.setId(6L);
+        exam.setTitle("Algebra");
+        exam.setDescription("Linear equations");
+        exam.setCategory(category);
+        exam.setCreatedBy(teacher);
+        exam.setCreatedAt(LocalDateTime.of(2024, 4, 1, 9, 0));
+        exam.setUpdatedAt(LocalDateTime.of(2024, 4, 2, 9, 0));
+
+        ExamDto dto = new ExamMapper().toSummaryDto(exam, 25);
+
+        assertEquals(6L, dto.getId());
+        assertEquals("Algebra", dto.getTitle());
+        assertEquals("Linear equations", dto.getDescription());
+        assertEquals(4L, dto.getCategoryId());
+        assertEquals("Mathematics", dto.getCategoryName());
+        assertEquals(8L, dto.getCreatedById());
+        assertEquals("Alan", dto.getCreatedByName());
+        assertEquals(exam.getCreatedAt(), dto.getCreatedAt());
+        assertEquals(exam.getUpdatedAt(), dto.getUpdatedAt());
+        assertEquals(25, dto.getTotalQuestions());
+        assertNull(dto.getQuestions());
+    }
+}
@@ -0,0 +1,147 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.ExamDto;
+import com.onlineexam.dto.ResultDto;
+import com.onlineexam.entity.Category;
+import com.onlineexam.entity.Exam;
+import com.onlineexam.entity.Result;
+import com.onlineexam.entity.User;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row latency and allocation of the removed ModelMapper configuration against the
+ * hand-written {@link ExamMapper} and {@link ResultMapper}, mapping one page of rows per call.
+ * Not part of the unit test run; needs jmh-core, jmh-generator-annprocess and modelmapper on the
+ * test classpath and is started through {@link #main}, which adds the GC profiler so
+ * {@code gc.alloc.rate.norm} reports bytes allocated per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int ROWS = 100;
+
+    private final ExamMapper examMapper = new ExamMapper();
+    private final ResultMapper resultMapper = new ResultMapper();
+    private ModelMapper modelMapper;
+    private List<Exam> exams;
+    private List<Result> results;
+    private User student;
+
+    @Setup
+    public void setUp() {
+        // Same configuration as the ModelMapperConfig bean the mappers replaced
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Java Programming");
+        User teacher = new User();
+        teacher.setId(2L);
+        teacher.setName("Teacher");
+        student = new User();
+        student.setId(3L);
+        student.setName("Student");
+
+        exams = new ArrayList<>(ROWS);
+        results = new ArrayList<>(ROWS);
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 9, 0);
+        for (int i = 0; i < ROWS; i++) {
+            Exam exam = new Exam();
+            exam.setId(100L + i);
+            exam.setTitle("Exam " + i);
+            exam.setDescription("Description " + i);
+            exam.setCategory(category);
+            exam.setCreatedBy(teacher);
+            exam.setCreatedAt(now.minusMinutes(i));
+            exam.setUpdatedAt(now);
+            exams.add(exam);
+
+            Result result = new Result();
+            result.setId(1_000L + i);
+            result.setExam(exam);
+            result.setStudent(student);
+            result.setScore(i % 101);
+            result.setTotalQuestions(20);
+            result.setCorrectAnswers(i % 21);
+            result.setSubmittedAt(now);
+            results.add(result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void examModelMapper(Blackhole blackhole) {
+        for (Exam exam : exams) {
+            blackhole.consume(modelMapper.map(exam, ExamDto.class));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void examHandWritten(Blackhole blackhole) {
+        for (Exam exam : exams) {
+            blackhole.consume(examMapper.toSummaryDto(exam, 20));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void resultModelMapper(Blackhole blackhole) {
+        for (Result result : results) {
+            // As ExamSubmissionService.toResultDto did before the hand-written mapper
+            ResultDto dto = modelMapper.map(result, ResultDto.class);
+            dto.setExamId(result.getExam().getId());
+            dto.setExamTitle(result.getExam().getTitle());
+            dto.setStudentId(student.getId());
+            dto.setStudentName(student.getName());
+            dto.setGrade(ResultMapper.gradeOf(result.getScore()));
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void resultHandWritten(Blackhole blackhole) {
+        for (Result result : results) {
+            blackhole.consume(resultMapper.toDto(result, result.getExam(), student));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
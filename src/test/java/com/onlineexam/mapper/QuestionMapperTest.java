@@ -0,0 +1,55 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.QuestionDto;
+import com.onlineexam.entity.Exam;
+import com.onlineexam.entity.Question;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class QuestionMapperTest {
+
+    private final QuestionMapper mapper = new QuestionMapper();
+
+    @Test
+    void mapsQuestionWithCopiedOptions() {
+        Exam exam = new Exam();
+        exam.setId(2L);
+        Question question = new Question();
+        question.setId(11L);
+        question.setQuestionText("2 + 2?");
+        question.setOptions(new ArrayList<>(List.of("3", "4", "5")));
+        question.setCorrectAnswer(1);
+        question.setExam(exam);
+        question.setCreatedAt(LocalDateTime.of(2024, 2, 1, 8, 0));
+        question.setUpdatedAt(LocalDateTime.of(2024, 2, 2, 8, 0));
+
+        QuestionDto dto = mapper.toDto(question);
+
+        assertEquals(11L, dto.getId());
+        assertEquals("2 + 2?", dto.getQuestionText());
+        assertEquals(List.of("3", "4", "5"), dto.getOptions());
+        assertNotSame(question.getOptions(), dto.getOptions());
+        assertEquals(1, dto.getCorrectAnswer());
+        assertEquals(2L, dto.getExamId());
+        assertEquals(question.getCreatedAt(), dto.getCreatedAt());
+        assertEquals(question.getUpdatedAt(), dto.getUpdatedAt());
+    }
+
+    @Test
+    void missingExamAndOptionsStayNull() {
+        Question question = new Question();
+        question.setId(12L);
+
+        QuestionDto dto = mapper.toDto(question);
+
+        assertNull(dto.getOptions());
+        assertNull(dto.getExamId());
+    }
+}
@@ -0,0 +1,57 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.ResultDto;
+import com.onlineexam.entity.Exam;
+import com.onlineexam.entity.Result;
+import com.onlineexam.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResultMapperTest {
+
+    private final ResultMapper mapper = new ResultMapper();
+
+    @Test
+    void mapsResultWithGivenExamAndStudent() {
+        Exam exam = new Exam();
+        exam.setId(3L);
+        exam.setTitle("Java Basics");
+        User student = new User();
+        student.setId(9L);
+        student.setName("Ada");
+        Result result = new Result();
+        result.setId(40L);
+        result.setScore(85);
+        result.setTotalQuestions(20);
+        result.setCorrectAnswers(17);
+        result.setSubmittedAt(LocalDateTime.of(2024, 3, 1, 12, 0));
+
+        ResultDto dto = mapper.toDto(result, exam, student);
+
+        assertEquals(40L, dto.getId());
+        assertEquals(3L, dto.getExamId());
+        assertEquals("Java Basics", dto.getExamTitle());
+        assertEquals(9L, dto.getStudentId());
+        assertEquals("Ada", dto.getStudentName());
+        assertEquals(85, dto.getScore());
+        assertEquals(20, dto.getTotalQuestions());
+        assertEquals(17, dto.getCorrectAnswers());
+        assertEquals(result.getSubmittedAt(), dto.getSubmittedAt());
+        assertEquals("B", dto.getGrade());
+    }
+
+    @Test
+    void gradeThresholds() {
+        assertEquals("A", ResultMapper.gradeOf(100));
+        assertEquals("A", ResultMapper.gradeOf(90));
+        assertEquals("B", ResultMapper.gradeOf(89));
+        assertEquals("B", ResultMapper.gradeOf(80));
+        assertEquals("C", ResultMapper.gradeOf(70));
+        assertEquals("D", ResultMapper.gradeOf(60));
+        assertEquals("F", ResultMapper.gradeOf(59));
+        assertEquals("F", ResultMapper.gradeOf(0));
+    }
+}
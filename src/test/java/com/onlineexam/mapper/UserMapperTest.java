@@ -0,0 +1,35 @@
+package com.onlineexam.mapper;
+
+import com.onlineexam.dto.UserDto;
+import com.onlineexam.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class UserMapperTest {
+
+    @Test
+    void mapsProfileWithoutPassword() {
+        User user = new User();
+        user.setId(5L);
+        user.setName("Grace");
+        user.setEmail("grace@example.com");
+        user.setPassword("$2a$10$secret-hash");
+        user.setRole(User.Role.TEACHER);
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 2, 3, 4));
+        user.setUpdatedAt(LocalDateTime.of(2024, 5, 6, 7, 8));
+
+        UserDto dto = new UserMapper().toDto(user);
+
+        assertEquals(5L, dto.getId());
+        assertEquals("Grace", dto.getName());
+        assertEquals("grace@example.com", dto.getEmail());
+        assertEquals(User.Role.TEACHER, dto.getRole());
+        assertEquals(user.getCreatedAt(), dto.getCreatedAt());
+        assertEquals(user.getUpdatedAt(), dto.getUpdatedAt());
+        assertFalse(dto.toString().contains("secret-hash"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.onlineexam.repository;
+
+import com.onlineexam.dto.ExamDto;
+import com.onlineexam.entity.Category;
+import com.onlineexam.entity.Exam;
+import com.onlineexam.entity.Question;
+import com.onlineexam.entity.User;
+import com.onlineexam.util.KeysetCursor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The exam catalog pages through {@link ExamRepository#EXAM_SUMMARY_SELECT}: one statement per
+ * page however many questions and options the exams have, plus the count query for offset pages.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class ExamRepositoryStatementCountTest {
+
+    private static final int EXAMS = 12;
+    private static final int QUESTIONS_PER_EXAM = 3;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Long categoryId;
+    private Long teacherId;
+
+    @BeforeEach
+    void setUp() {
+        Category category = new Category();
+        category.setName("Java Programming");
+        entityManager.persist(category);
+
+        User teacher = new User();
+        teacher.setName("Teacher");
+        teacher.setEmail("teacher@example.com");
+        teacher.setPassword("hash");
+        teacher.setRole(User.Role.TEACHER);
+        entityManager.persist(teacher);
+
+        for (int i = 0; i < EXAMS; i++) {
+            Exam exam = new Exam();
+            exam.setTitle("Exam " + i);
+            exam.setCategory(category);
+            exam.setCreatedBy(teacher);
+            entityManager.persist(exam);
+            for (int j = 0; j < QUESTIONS_PER_EXAM; j++) {
+                Question question = new Question();
+                question.setQuestionText("Question " + j);
+                question.setOptions(List.of("a", "b", "c", "d"));
+                question.setCorrectAnswer(j % 4);
+                question.setExam(exam);
+                entityManager.persist(question);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        categoryId = category.getId();
+        teacherId = teacher.getId();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void offsetPageIsOneSelectPlusCount() {
+        Page<ExamDto> page = examRepository.findExamSummaries(PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(EXAMS, page.getTotalElements());
+        assertSummaries(page.getContent());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void filteredOffsetPagesAreOneSelectPlusCount() {
+        examRepository.findExamSummariesByCategoryId(categoryId, PageRequest.of(1, PAGE_SIZE));
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        Page<ExamDto> page = examRepository.findExamSummariesByCreatedById(teacherId, PageRequest.of(0, PAGE_SIZE));
+        assertSummaries(page.getContent());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void keysetPagesAreOneSelectEach() {
+        KeysetCursor first = KeysetCursor.decode(null);
+        Slice<ExamDto> page = examRepository.findExamSummarySliceBefore(first.getTimestamp(), first.getId(),
+                KeysetCursor.pageRequest(PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertTrue(page.hasNext());
+        assertSummaries(page.getContent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        ExamDto last = page.getContent().get(PAGE_SIZE - 1);
+        Slice<ExamDto> next = examRepository.findExamSummarySliceBefore(last.getCreatedAt(), last.getId(),
+                KeysetCursor.pageRequest(PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, next.getNumberOfElements());
+        assertTrue(next.getContent().get(0).getId() < last.getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void teacherKeysetPageIsOneSelect() {
+        KeysetCursor first = KeysetCursor.decode(null);
+        Slice<ExamDto> page = examRepository.findExamSummarySliceByCreatedByBefore(teacherId,
+                first.getTimestamp(), first.getId(), KeysetCursor.pageRequest(EXAMS));
+
+        assertEquals(EXAMS, page.getNumberOfElements());
+        assertFalse(page.hasNext());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static void assertSummaries(List<ExamDto> exams) {
+        for (ExamDto exam : exams) {
+            assertEquals("Java Programming", exam.getCategoryName());
+            assertEquals("Teacher", exam.getCreatedByName());
+            assertEquals(QUESTIONS_PER_EXAM, exam.getTotalQuestions());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.onlineexam.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnswerKeyTest {
+
+    @Test
+    void looksUpCorrectAnswerAndOptionCount() {
+        AnswerKey key = AnswerKey.of(new long[]{11, 42, 7}, new int[]{2, 0, 3}, new int[]{4, 2, 5});
+
+        assertEquals(3, key.size());
+        assertEquals(2, key.correctAnswerOf(11));
+        assertEquals(0, key.correctAnswerOf(42));
+        assertEquals(3, key.correctAnswerOf(7));
+        assertEquals(2, key.optionCountOf(42));
+        assertEquals(5, key.optionCountOf(7));
+    }
+
+    @Test
+    void reportsMissingQuestion() {
+        AnswerKey key = AnswerKey.of(new long[]{1, 2}, new int[]{0, 1});
+
+        assertEquals(AnswerKey.NO_QUESTION, key.correctAnswerOf(3));
+        assertEquals(0, key.optionCountOf(3));
+        assertFalse(key.contains(3));
+        assertTrue(key.contains(2));
+    }
+
+    @Test
+    void emptyKeyContainsNothing() {
+        AnswerKey key = AnswerKey.of(new long[0], new int[0]);
+
+        assertTrue(key.isEmpty());
+        assertEquals(AnswerKey.NO_QUESTION, key.correctAnswerOf(1));
+    }
+
+    @Test
+    void collidingIdsAreAllFound() {
+        int n = 1000;
+        long[] ids = new long[n];
+        int[] answers = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = (i + 1) * 1024L;
+            answers[i] = i % 4;
+        }
+
+        AnswerKey key = AnswerKey.of(ids, answers);
+
+        assertEquals(n, key.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals(i % 4, key.correctAnswerOf(ids[i]));
+        }
+        assertFalse(key.contains(1023));
+    }
+
+    @Test
+    void duplicateIdKeepsLastAnswer() {
+        AnswerKey key = AnswerKey.of(new long[]{5, 5}, new int[]{1, 3});
+
+        assertEquals(1, key.size());
+        assertEquals(3, key.correctAnswerOf(5));
+    }
+
+    @Test
+    void rejectsMismatchedArraysAndZeroId() {
+        assertThrows(IllegalArgumentException.class, () -> AnswerKey.of(new long[]{1}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> AnswerKey.of(new long[]{0}, new int[]{1}));
+    }
+}
@@ -0,0 +1,117 @@
+package com.onlineexam.service;
+
+import com.onlineexam.dto.ExamSubmissionDto.AnswerDto;
+import com.onlineexam.entity.Question;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grading one submission: the original per-answer {@code questions.stream().filter(...)} scan
+ * against {@link GradingEngine#countCorrectAnswers} on a compiled {@link AnswerKey}.
+ * Not part of the unit test run; needs jmh-core and jmh-generator-annprocess on the test
+ * classpath and is started through {@link #main}, which also reports allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradingBenchmark {
+
+    @Param({"200"})
+    private int questionCount;
+
+    private List<Question> questions;
+    private List<AnswerDto> answers;
+    private AnswerKey answerKey;
+    private final GradingEngine gradingEngine = new GradingEngine();
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        questions = new ArrayList<>(questionCount);
+        answers = new ArrayList<>(questionCount);
+        long[] ids = new long[questionCount];
+        int[] correct = new int[questionCount];
+        int[] optionCounts = new int[questionCount];
+
+        for (int i = 0; i < questionCount; i++) {
+            long id = 1_000 + i * 7L;
+            Question question = new Question();
+            question.setId(id);
+            question.setCorrectAnswer(random.nextInt(4));
+            question.setOptions(List.of("a", "b", "c", "d"));
+            questions.add(question);
+
+            ids[i] = id;
+            correct[i] = question.getCorrectAnswer();
+            optionCounts[i] = 4;
+            answers.add(new AnswerDto(id, random.nextInt(4)));
+        }
+        // Students answer in their own order, not the order the questions were loaded in
+        Collections.shuffle(answers, new Random(7));
+        answerKey = AnswerKey.of(ids, correct, optionCounts);
+    }
+
+    @Benchmark
+    public int streamScan() {
+        int correctAnswers = 0;
+        for (AnswerDto answer : answers) {
+            Question question = questions.stream()
+                    .filter(q -> q.getId().equals(answer.getQuestionId()))
+                    .findFirst()
+                    .orElseThrow(() -> new RuntimeException("Question not found with id: " + answer.getQuestionId()));
+            if (question.getCorrectAnswer().equals(answer.getSelectedAnswer())) {
+                correctAnswers++;
+            }
+        }
+        return correctAnswers;
+    }
+
+    @Benchmark
+    public int answerKey() {
+        return gradingEngine.countCorrectAnswers(answerKey, answers);
+    }
+
+    @Benchmark
+    public AnswerKey compileAnswerKey() {
+        long[] ids = new long[questions.size()];
+        int[] correct = new int[ids.length];
+        int[] optionCounts = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            Question question = questions.get(i);
+            ids[i] = question.getId();
+            correct[i] = question.getCorrectAnswer();
+            optionCounts[i] = question.getOptions().size();
+        }
+        return AnswerKey.of(ids, correct, optionCounts);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GradingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,42 @@
+package com.onlineexam.service;
+
+import com.onlineexam.dto.ExamSubmissionDto.AnswerDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GradingEngineTest {
+
+    private final GradingEngine gradingEngine = new GradingEngine();
+    private final AnswerKey answerKey = AnswerKey.of(new long[]{1, 2, 3}, new int[]{0, 2, 1}, new int[]{4, 4, 4});
+
+    @Test
+    void countsMatchingAnswers() {
+        List<AnswerDto> answers = List.of(new AnswerDto(1L, 0), new AnswerDto(2L, 1), new AnswerDto(3L, 1));
+
+        assertEquals(2, gradingEngine.countCorrectAnswers(answerKey, answers));
+    }
+
+    @Test
+    void unansweredQuestionIsWrong() {
+        List<AnswerDto> answers = List.of(new AnswerDto(1L, null), new AnswerDto(2L, 2));
+
+        assertEquals(1, gradingEngine.countCorrectAnswers(answerKey, answers));
+    }
+
+    @Test
+    void rejectsQuestionOutsideExam() {
+        List<AnswerDto> answers = List.of(new AnswerDto(99L, 0));
+
+        assertThrows(RuntimeException.class, () -> gradingEngine.countCorrectAnswers(answerKey, answers));
+    }
+
+    @Test
+    void calculatesRoundedPercentage() {
+        assertEquals(67, gradingEngine.calculateScore(2, 3));
+        assertEquals(100, gradingEngine.calculateScore(3, 3));
+    }
+}
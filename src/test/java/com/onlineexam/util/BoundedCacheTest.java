@@ -0,0 +1,148 @@
+package com.onlineexam.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 2, 0);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(1L, cache.stats().get("evictions"));
+    }
+
+    @Test
+    void expiresEntriesAfterDeadline() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+        cache.put("a", 1, System.currentTimeMillis() - 1);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void loadsOnMissAndCachesResult() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.get("a", key -> loads.incrementAndGet()));
+        assertEquals(1, cache.get("a", key -> loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidateIgnoresNullKey() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+        cache.put("a", 1);
+
+        cache.invalidate(null);
+
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    void loaderRejectsNullKey() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+
+        assertThrows(NullPointerException.class, () -> cache.get(null, key -> 1));
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = executor.submit(() -> cache.get("a", key -> {
+                loaderStarted.countDown();
+                await(release);
+                return loads.incrementAndGet();
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            Future<Integer> second = executor.submit(() -> cache.get("a", key -> loads.incrementAndGet()));
+            release.countDown();
+
+            assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            assertEquals(1, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadOverlappingInvalidationOfItsKeyIsNotCached() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+
+        Integer loaded = cache.get("a", key -> {
+            cache.invalidate("a");
+            return 1;
+        });
+
+        assertEquals(1, loaded);
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void invalidatingOtherKeyKeepsLoadCacheable() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+
+        cache.get("a", key -> {
+            cache.invalidate("b");
+            return 1;
+        });
+
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    void loadOverlappingInvalidateAllIsNotCached() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+
+        cache.get("a", key -> {
+            cache.invalidateAll();
+            return 1;
+        });
+
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, 0);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("a", key -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(2, cache.get("a", key -> 2));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.onlineexam.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ExamPermutationTest {
+
+    @Test
+    void sameInputsGiveSamePaper() {
+        ExamPermutation first = ExamPermutation.of(3, 17, 42);
+        ExamPermutation second = ExamPermutation.of(3, 17, 42);
+
+        assertArrayEquals(first.questionOrder(20), second.questionOrder(20));
+        assertArrayEquals(first.optionOrder(99, 4), second.optionOrder(99, 4));
+        assertEquals(first.drawRandom().nextLong(), second.drawRandom().nextLong());
+    }
+
+    @Test
+    void ordersArePermutations() {
+        ExamPermutation permutation = ExamPermutation.of(1, 2, 0);
+
+        int[] order = permutation.questionOrder(50);
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(i, sorted[i]);
+        }
+    }
+
+    @Test
+    void studentsGetDifferentOrders() {
+        int[] first = ExamPermutation.of(1, 100, 0).questionOrder(30);
+        int[] second = ExamPermutation.of(1, 101, 0).questionOrder(30);
+
+        assertFalse(Arrays.equals(first, second));
+    }
+
+    @Test
+    void seedChangesOrder() {
+        int[] first = ExamPermutation.of(1, 100, 0).questionOrder(30);
+        int[] second = ExamPermutation.of(1, 100, 1).questionOrder(30);
+
+        assertFalse(Arrays.equals(first, second));
+    }
+
+    @Test
+    void originalAndShownOptionAreInverse() {
+        ExamPermutation permutation = ExamPermutation.of(7, 8, 9);
+        int[] scratch = new int[6];
+
+        for (long questionId = 1; questionId <= 50; questionId++) {
+            int[] order = permutation.optionOrder(questionId, 6);
+            for (int shown = 0; shown < 6; shown++) {
+                int original = permutation.originalOption(questionId, 6, shown, scratch);
+                assertEquals(order[shown], original);
+                assertEquals(original, permutation.originalOption(questionId, 6, shown));
+                assertEquals(shown, permutation.shownOption(questionId, 6, original));
+            }
+        }
+    }
+
+    @Test
+    void outOfRangeOptionMapsToMinusOne() {
+        ExamPermutation permutation = ExamPermutation.of(1, 1, 1);
+
+        assertEquals(-1, permutation.originalOption(5, 4, 4));
+        assertEquals(-1, permutation.originalOption(5, 4, -1, new int[4]));
+        assertEquals(-1, permutation.shownOption(5, 4, 7));
+    }
+}
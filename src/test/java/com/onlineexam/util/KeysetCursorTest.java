@@ -0,0 +1,68 @@
+package com.onlineexam.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodedPositionDecodesToSameRow() {
+        LocalDateTime submittedAt = LocalDateTime.of(2024, 5, 17, 9, 30, 0, 123_456_000);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(submittedAt, 42L));
+
+        assertEquals(submittedAt, cursor.getTimestamp());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    void wholeMinuteTimestampsRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        assertEquals(createdAt, KeysetCursor.decode(KeysetCursor.encode(createdAt, 7L)).getTimestamp());
+    }
+
+    @Test
+    void tokensAreUrlSafe() {
+        String token = KeysetCursor.encode(LocalDateTime.of(2024, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @Test
+    void missingTokenStartsAfterEveryRow() {
+        KeysetCursor start = KeysetCursor.decode(null);
+
+        assertEquals(start.getTimestamp(), KeysetCursor.decode(" ").getTimestamp());
+        assertTrue(start.getTimestamp().isAfter(LocalDateTime.now().plusYears(1000)));
+        assertEquals(Long.MAX_VALUE, start.getId());
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(token("2024-01-01T10:00")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(token("yesterday|5")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(token("2024-01-01T10:00|five")));
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertEquals(1, KeysetCursor.pageRequest(0).getPageSize());
+        assertEquals(20, KeysetCursor.pageRequest(20).getPageSize());
+        assertEquals(KeysetCursor.MAX_PAGE_SIZE, KeysetCursor.pageRequest(10_000).getPageSize());
+        assertFalse(KeysetCursor.pageRequest(20).getSort().isSorted());
+    }
+
+    private static String token(String value) {
+        return Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,85 @@
+package com.onlineexam.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomSamplerTest {
+
+    @Test
+    void drawsDistinctIndicesInRange() {
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int round = 0; round < 1_000; round++) {
+            int[] sample = RandomSampler.sampleIndices(50, 10, random);
+
+            assertEquals(10, sample.length);
+            Set<Integer> seen = new HashSet<>();
+            for (int index : sample) {
+                assertTrue(index >= 0 && index < 50, "out of range: " + index);
+                assertTrue(seen.add(index), "duplicate: " + index);
+            }
+        }
+    }
+
+    @Test
+    void clampsToPopulationSize() {
+        int[] sample = RandomSampler.sampleIndices(4, 10, new SplittableRandom(2));
+
+        assertEquals(4, sample.length);
+        assertEquals(Set.of(0, 1, 2, 3), toSet(sample));
+    }
+
+    @Test
+    void emptyDraws() {
+        assertEquals(0, RandomSampler.sampleIndices(0, 5, new SplittableRandom(3)).length);
+        assertEquals(0, RandomSampler.sampleIndices(5, 0, new SplittableRandom(3)).length);
+    }
+
+    @Test
+    void sameSeedGivesSameSample() {
+        int[] first = RandomSampler.sampleIndices(1_000, 20, new SplittableRandom(42));
+        int[] second = RandomSampler.sampleIndices(1_000, 20, new SplittableRandom(42));
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void everyIndexAndPositionIsEquallyLikely() {
+        int n = 10;
+        int k = 3;
+        int rounds = 30_000;
+        int[] picked = new int[n];
+        int[] firstPosition = new int[n];
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int round = 0; round < rounds; round++) {
+            int[] sample = RandomSampler.sampleIndices(n, k, random);
+            for (int index : sample) {
+                picked[index]++;
+            }
+            firstPosition[sample[0]]++;
+        }
+
+        double expectedPicked = (double) rounds * k / n;
+        double expectedFirst = (double) rounds / n;
+        for (int i = 0; i < n; i++) {
+            assertEquals(expectedPicked, picked[i], expectedPicked * 0.05);
+            assertEquals(expectedFirst, firstPosition[i], expectedFirst * 0.1);
+        }
+    }
+
+    private static Set<Integer> toSet(int[] values) {
+        Set<Integer> set = new HashSet<>();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+}